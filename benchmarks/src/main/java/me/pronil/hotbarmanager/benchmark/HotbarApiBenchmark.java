@@ -0,0 +1,131 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import me.pronil.hotbarmanager.api.HotbarLayout;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import org.bukkit.DyeColor;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Per-call cost of the hotbar, preset and category methods of {@link HotbarManagerAPI}
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HotbarApiBenchmark {
+
+    @Param({"1000"})
+    public int players;
+
+    private InMemoryHotbarManagerAPI api;
+    private UUID[] uuids;
+    private String[] itemTypes;
+
+    @Setup
+    public void setUp() {
+        api = new InMemoryHotbarManagerAPI(Logger.getLogger("HotbarApiBenchmark"), 10);
+        uuids = new UUID[players];
+        for (int i = 0; i < players; i++) {
+            uuids[i] = new UUID(0L, i);
+            Player player = Proxies.player(uuids[i], "player" + i);
+            api.join(player, DyeColor.values()[i % DyeColor.values().length]);
+            api.setPlayerHotbarSlot(uuids[i], 4, "ranged-category0");
+            api.savePlayerPreset(uuids[i], "default");
+        }
+        List<String> melee = api.getCategoryItems("melee");
+        itemTypes = melee.toArray(new String[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.shutdown();
+    }
+
+    /**
+     * Round-robin position of one benchmark thread over the players
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        UUID next(UUID[] uuids) {
+            position = position + 1 == uuids.length ? 0 : position + 1;
+            return uuids[position];
+        }
+    }
+
+    @Benchmark
+    public String[] getPlayerHotbar(Cursor cursor) {
+        return api.getPlayerHotbar(cursor.next(uuids));
+    }
+
+    @Benchmark
+    public HotbarLayout getPlayerHotbarLayout(Cursor cursor) {
+        return api.getPlayerHotbarLayout(cursor.next(uuids));
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> setPlayerHotbarSlot(Cursor cursor) {
+        return api.setPlayerHotbarSlot(cursor.next(uuids), 0, itemTypes[cursor.position % itemTypes.length]);
+    }
+
+    @Benchmark
+    public CompletableFuture<Boolean> savePlayerPreset(Cursor cursor) {
+        return api.savePlayerPreset(cursor.next(uuids), "default");
+    }
+
+    @Benchmark
+    public CompletableFuture<Boolean> loadPlayerPreset(Cursor cursor) {
+        return api.loadPlayerPreset(cursor.next(uuids), "default");
+    }
+
+    @Benchmark
+    public List<String> getPlayerPresets(Cursor cursor) {
+        return api.getPlayerPresets(cursor.next(uuids));
+    }
+
+    @Benchmark
+    public List<String> getAvailableCategories() {
+        return api.getAvailableCategories();
+    }
+
+    @Benchmark
+    public List<String> getCategoryItems(Cursor cursor) {
+        return api.getCategoryItems(api.getAvailableCategories().get(cursor.position % 6));
+    }
+
+    @Benchmark
+    public String getItemCategory(Cursor cursor) {
+        return api.getItemCategory(itemTypes[cursor.next(uuids).hashCode() & 3]);
+    }
+
+    @Benchmark
+    public String getItemCategoryByHandle(Cursor cursor) {
+        return api.getItemCategory(cursor.next(uuids).hashCode() % api.getItemTypeRegistry().size());
+    }
+}
@@ -0,0 +1,500 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import me.pronil.hotbarmanager.api.HotbarDiff;
+import me.pronil.hotbarmanager.api.HotbarEventType;
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import me.pronil.hotbarmanager.api.ItemTypeRegistry;
+import me.pronil.hotbarmanager.api.cache.ItemTemplateCache;
+import me.pronil.hotbarmanager.api.cache.ItemTypeIndex;
+import me.pronil.hotbarmanager.api.event.HotbarListenerRegistry;
+import me.pronil.hotbarmanager.api.storage.PlayerHotbarData;
+import org.bukkit.DyeColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-memory reference implementation of {@link HotbarManagerAPI}
+ *
+ * Keeps hotbars and presets in concurrent maps, builds items through the
+ * {@link ItemTemplateCache} and dispatches events through a
+ * {@link HotbarListenerRegistry}, so it exercises the same API-side code as the plugin
+ * without a server or storage. Events are only fired for players that have
+ * {@linkplain #join(Player) joined}. Items are told apart by material and data value.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class InMemoryHotbarManagerAPI implements HotbarManagerAPI {
+
+    /**
+     * Hotbar of players that have not changed theirs
+     */
+    public static final String[] DEFAULT_HOTBAR = {
+            "melee-category0", "blocks-category0", "tools-category0", EMPTY_SLOT, EMPTY_SLOT,
+            EMPTY_SLOT, EMPTY_SLOT, EMPTY_SLOT, "utility-category4"
+    };
+
+    private static final Object[][] ITEMS = {
+            {"blocks", Material.WOOL, true}, {"blocks", Material.SANDSTONE, false},
+            {"blocks", Material.ENDER_STONE, false}, {"blocks", Material.WOOD, false},
+            {"melee", Material.WOOD_SWORD, false}, {"melee", Material.STONE_SWORD, false},
+            {"melee", Material.IRON_SWORD, false}, {"melee", Material.DIAMOND_SWORD, false},
+            {"tools", Material.WOOD_PICKAXE, false}, {"tools", Material.IRON_PICKAXE, false},
+            {"tools", Material.SHEARS, false},
+            {"ranged", Material.BOW, false}, {"ranged", Material.ARROW, false},
+            {"potions", Material.POTION, false},
+            {"utility", Material.GOLDEN_APPLE, false}, {"utility", Material.ENDER_PEARL, false},
+            {"utility", Material.TNT, false}, {"utility", Material.FIREBALL, false},
+            {"utility", Material.COMPASS, false}
+    };
+
+    private final Logger logger;
+    private final int maxPresets;
+    private final boolean defaultRegistryLookup;
+    private final ItemTypeRegistry registry;
+    private final Map<String, Object[]> definitions = new LinkedHashMap<>();
+    private final ItemTemplateCache templates;
+    private final ItemTypeIndex index;
+    private final HotbarListenerRegistry listeners;
+    private final Map<UUID, Player> online = new ConcurrentHashMap<>();
+    private final Map<UUID, DyeColor> teams = new ConcurrentHashMap<>();
+    private final Map<UUID, String[]> hotbars = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, String[]>> presets = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance
+     * @param logger Logger for listener failures and {@link #log(String, String)}
+     * @param maxPresets Maximum number of presets per player
+     */
+    public InMemoryHotbarManagerAPI(Logger logger, int maxPresets) {
+        this(logger, maxPresets, false);
+    }
+
+    /**
+     * Creates a new instance
+     * @param logger Logger for listener failures and {@link #log(String, String)}
+     * @param maxPresets Maximum number of presets per player
+     * @param defaultRegistryLookup Whether {@link #getItemTypeRegistry()} goes through the
+     *                              default implementation of {@link HotbarManagerAPI}
+     *                              instead of returning the registry field
+     */
+    public InMemoryHotbarManagerAPI(Logger logger, int maxPresets, boolean defaultRegistryLookup) {
+        Proxies.installServer();
+        this.logger = logger;
+        this.maxPresets = maxPresets;
+        this.defaultRegistryLookup = defaultRegistryLookup;
+
+        ItemTypeRegistry.Builder builder = ItemTypeRegistry.builder();
+        Map<String, Integer> categorySizes = new LinkedHashMap<>();
+        for (Object[] item : ITEMS) {
+            String category = (String) item[0];
+            int position = categorySizes.merge(category, 1, Integer::sum) - 1;
+            String itemType = category + "-category" + position;
+            builder.add(category, itemType);
+            definitions.put(itemType, item);
+        }
+        this.registry = builder.build();
+        this.templates = new ItemTemplateCache(registry, this::createItem);
+        this.index = ItemTypeIndex.build(registry, this::createItem);
+        this.listeners = new HotbarListenerRegistry(logger);
+    }
+
+    /**
+     * Marks a player as online, so events are fired for them
+     * @param player The joining player
+     * @param team Team colour for coloured items, or null
+     */
+    public void join(Player player, DyeColor team) {
+        online.put(player.getUniqueId(), player);
+        if (team != null) {
+            teams.put(player.getUniqueId(), team);
+        }
+    }
+
+    /**
+     * Marks a player as offline; their hotbar and presets are kept
+     * @param player The leaving player
+     */
+    public void quit(Player player) {
+        online.remove(player.getUniqueId());
+        teams.remove(player.getUniqueId());
+    }
+
+    /**
+     * Gets a copy of a player's hotbar and presets, for persisting them
+     * @param uuid The player's UUID
+     * @return The player's data
+     */
+    public PlayerHotbarData snapshot(UUID uuid) {
+        Map<String, String[]> playerPresets = presets.get(uuid);
+        Map<String, String[]> copy = new LinkedHashMap<>();
+        if (playerPresets != null) {
+            synchronized (playerPresets) {
+                copy.putAll(playerPresets);
+            }
+        }
+        return PlayerHotbarData.of(uuid, getPlayerHotbar(uuid), copy);
+    }
+
+    /**
+     * Replaces a player's hotbar and presets with stored data, without firing events
+     * @param data The stored data
+     */
+    public void restore(PlayerHotbarData data) {
+        Map<String, String[]> playerPresets = Collections.synchronizedMap(new LinkedHashMap<>());
+        for (String presetName : data.getPresetNames()) {
+            playerPresets.put(presetName, data.getPreset(presetName));
+        }
+        hotbars.put(data.getUniqueId(), data.getHotbar());
+        presets.put(data.getUniqueId(), playerPresets);
+    }
+
+    /**
+     * Stops the asynchronous observer dispatcher
+     */
+    public void shutdown() {
+        listeners.shutdown();
+    }
+
+    /**
+     * Gets the listener registry, for direct dispatch measurements
+     * @return The registry
+     */
+    public HotbarListenerRegistry getListenerRegistry() {
+        return listeners;
+    }
+
+    private ItemStack createItem(String itemType, DyeColor teamColor) {
+        Object[] item = definitions.get(itemType);
+        if (item == null) {
+            return null;
+        }
+        boolean coloured = (Boolean) item[2];
+        short data = coloured && teamColor != null ? teamColor.getWoolData() : 0;
+        return new ItemStack((Material) item[1], 1, data);
+    }
+
+    @Override
+    public Object getPlugin() {
+        return null;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    // ===== PLAYER HOTBAR MANAGEMENT =====
+
+    @Override
+    public String[] getPlayerHotbar(Player player) {
+        return getPlayerHotbar(player.getUniqueId());
+    }
+
+    @Override
+    public String[] getPlayerHotbar(UUID uuid) {
+        return hotbars.getOrDefault(uuid, DEFAULT_HOTBAR).clone();
+    }
+
+    @Override
+    public CompletableFuture<Void> setPlayerHotbarSlot(Player player, int slot, String itemType) {
+        return setPlayerHotbarSlot(player.getUniqueId(), slot, itemType);
+    }
+
+    @Override
+    public CompletableFuture<Void> setPlayerHotbarSlot(UUID uuid, int slot, String itemType) {
+        if (slot < 0 || slot >= HOTBAR_SIZE) {
+            return failed(new IllegalArgumentException("Invalid slot " + slot));
+        }
+        String newItemType = itemType == null ? EMPTY_SLOT : itemType;
+        if (!EMPTY_SLOT.equals(newItemType) && !registry.isValid(newItemType)) {
+            return failed(new IllegalArgumentException("Invalid item type: " + itemType));
+        }
+        String oldItemType = hotbars.getOrDefault(uuid, DEFAULT_HOTBAR)[slot];
+        Player player = online.get(uuid);
+        if (player != null && !listeners.fireHotbarSlotChanged(player, slot, oldItemType, newItemType)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        hotbars.compute(uuid, (key, current) -> {
+            String[] updated = (current != null ? current : DEFAULT_HOTBAR).clone();
+            updated[slot] = newItemType;
+            return updated;
+        });
+        if (player != null) {
+            if (!EMPTY_SLOT.equals(oldItemType)) {
+                listeners.fireItemRemovedFromHotbar(player, slot, oldItemType);
+            }
+            if (!EMPTY_SLOT.equals(newItemType)) {
+                listeners.fireItemAddedToHotbar(player, slot, newItemType);
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setPlayerHotbar(UUID uuid, String[] hotbar) {
+        if (hotbar == null || hotbar.length != HOTBAR_SIZE) {
+            return failed(new IllegalArgumentException("Hotbar must have " + HOTBAR_SIZE + " slots"));
+        }
+        String[] updated = new String[HOTBAR_SIZE];
+        for (int slot = 0; slot < HOTBAR_SIZE; slot++) {
+            updated[slot] = hotbar[slot] == null ? EMPTY_SLOT : hotbar[slot];
+            if (!EMPTY_SLOT.equals(updated[slot]) && !registry.isValid(updated[slot])) {
+                return failed(new IllegalArgumentException("Invalid item type in slot " + slot + ": " + updated[slot]));
+            }
+        }
+        apply(uuid, updated, HotbarDiff.Cause.BULK_SET, null);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> resetPlayerHotbar(Player player) {
+        return resetPlayerHotbar(player.getUniqueId());
+    }
+
+    @Override
+    public CompletableFuture<Void> resetPlayerHotbar(UUID uuid) {
+        apply(uuid, DEFAULT_HOTBAR.clone(), HotbarDiff.Cause.RESET, null);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private boolean apply(UUID uuid, String[] updated, HotbarDiff.Cause cause, String presetName) {
+        Player player = online.get(uuid);
+        if (player != null) {
+            HotbarDiff diff = new HotbarDiff(uuid, cause, presetName, getPlayerHotbar(uuid), updated, registry);
+            if (!listeners.fireHotbarDiff(player, diff)) {
+                return false;
+            }
+        }
+        hotbars.put(uuid, updated);
+        return true;
+    }
+
+    // ===== HOTBAR PRESETS =====
+
+    @Override
+    public List<String> getPlayerPresets(Player player) {
+        return getPlayerPresets(player.getUniqueId());
+    }
+
+    @Override
+    public List<String> getPlayerPresets(UUID uuid) {
+        Map<String, String[]> playerPresets = presets.get(uuid);
+        if (playerPresets == null) {
+            return Collections.emptyList();
+        }
+        synchronized (playerPresets) {
+            return new ArrayList<>(playerPresets.keySet());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> savePlayerPreset(Player player, String presetName) {
+        return savePlayerPreset(player.getUniqueId(), presetName);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> savePlayerPreset(UUID uuid, String presetName) {
+        Map<String, String[]> playerPresets = presets.computeIfAbsent(uuid,
+                key -> Collections.synchronizedMap(new LinkedHashMap<>()));
+        synchronized (playerPresets) {
+            if (!playerPresets.containsKey(presetName) && playerPresets.size() >= maxPresets) {
+                return CompletableFuture.completedFuture(false);
+            }
+        }
+        Player player = online.get(uuid);
+        if (player != null && !listeners.firePresetSaved(player, presetName)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        playerPresets.put(presetName, getPlayerHotbar(uuid));
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> loadPlayerPreset(Player player, String presetName) {
+        return loadPlayerPreset(player.getUniqueId(), presetName);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> loadPlayerPreset(UUID uuid, String presetName) {
+        Map<String, String[]> playerPresets = presets.get(uuid);
+        String[] preset = playerPresets != null ? playerPresets.get(presetName) : null;
+        if (preset == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.completedFuture(apply(uuid, preset.clone(), HotbarDiff.Cause.PRESET_LOAD, presetName));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deletePlayerPreset(Player player, String presetName) {
+        return deletePlayerPreset(player.getUniqueId(), presetName);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deletePlayerPreset(UUID uuid, String presetName) {
+        Map<String, String[]> playerPresets = presets.get(uuid);
+        if (playerPresets == null || !playerPresets.containsKey(presetName)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        Player player = online.get(uuid);
+        if (player != null && !listeners.firePresetDeleted(player, presetName)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture.completedFuture(playerPresets.remove(presetName) != null);
+    }
+
+    // ===== ITEM MANAGEMENT =====
+
+    @Override
+    public ItemStack getItemFromType(Player player, String itemType) {
+        return templates.get(itemType, teams.get(player.getUniqueId()));
+    }
+
+    @Override
+    public String getItemTypeFromStack(ItemStack itemStack) {
+        return index.getItemType(itemStack);
+    }
+
+    @Override
+    public boolean isValidItemType(String itemType) {
+        return registry.isValid(itemType);
+    }
+
+    @Override
+    public ItemTypeRegistry getItemTypeRegistry() {
+        return defaultRegistryLookup ? HotbarManagerAPI.super.getItemTypeRegistry() : registry;
+    }
+
+    @Override
+    public ItemStack getItemFromType(Player player, int handle) {
+        return templates.get(handle, teams.get(player.getUniqueId()));
+    }
+
+    @Override
+    public int getItemTypeHandleFromStack(ItemStack itemStack) {
+        return index.getHandle(itemStack);
+    }
+
+    // ===== CATEGORY MANAGEMENT =====
+
+    @Override
+    public List<String> getAvailableCategories() {
+        return registry.getCategories();
+    }
+
+    @Override
+    public List<String> getCategoryItems(String categoryName) {
+        return registry.getCategoryItems(categoryName);
+    }
+
+    @Override
+    public String getItemCategory(String itemType) {
+        return registry.getCategory(itemType);
+    }
+
+    // ===== GUI MANAGEMENT =====
+
+    @Override
+    public void openManagerGUI(Player player, boolean forceOpen) {
+        listeners.fireManagerGUIOpened(player);
+    }
+
+    @Override
+    public void openSelectionGUI(Player player, String itemToSelect) {
+        listeners.fireSelectionGUIOpened(player, itemToSelect);
+    }
+
+    @Override
+    public void closeManagerGUI(Player player) {
+    }
+
+    // ===== CONFIGURATION ACCESS =====
+
+    @Override
+    public int getMaxPresetsPerPlayer() {
+        return maxPresets;
+    }
+
+    @Override
+    public boolean isGlassForSlotsEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean areSoundsEnabled() {
+        return false;
+    }
+
+    @Override
+    public int getGUISize() {
+        return 54;
+    }
+
+    // ===== EVENT REGISTRATION =====
+
+    @Override
+    public void registerHotbarListener(HotbarListener listener) {
+        listeners.register(listener);
+    }
+
+    @Override
+    public void registerHotbarListener(HotbarListener listener, HotbarEventType... events) {
+        if (events.length == 0) {
+            listeners.register(listener);
+        } else {
+            listeners.register(listener, Arrays.asList(events));
+        }
+    }
+
+    @Override
+    public void registerHotbarObserver(HotbarListener observer, HotbarEventType... events) {
+        if (events.length == 0) {
+            listeners.registerObserver(observer);
+        } else {
+            listeners.registerObserver(observer, Arrays.asList(events));
+        }
+    }
+
+    @Override
+    public void unregisterHotbarListener(HotbarListener listener) {
+        listeners.unregister(listener);
+    }
+
+    // ===== UTILITY METHODS =====
+
+    @Override
+    public String getVersion() {
+        return "1.6.0-in-memory";
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return false;
+    }
+
+    @Override
+    public void log(String level, String message) {
+        logger.log(Level.parse(level.toUpperCase()), message);
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,93 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import org.bukkit.DyeColor;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Cost of mapping between item stacks and item types
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemLookupBenchmark {
+
+    private InMemoryHotbarManagerAPI api;
+    private Player player;
+    private String[] itemTypes;
+    private ItemStack[] stacks;
+
+    @Setup
+    public void setUp() {
+        api = new InMemoryHotbarManagerAPI(Logger.getLogger("ItemLookupBenchmark"), 1);
+        player = Proxies.player(new UUID(0L, 1L), "player");
+        api.join(player, DyeColor.RED);
+        itemTypes = new String[api.getItemTypeRegistry().size()];
+        stacks = new ItemStack[itemTypes.length];
+        for (int handle = 0; handle < itemTypes.length; handle++) {
+            itemTypes[handle] = api.getItemTypeRegistry().getItemType(handle);
+            stacks[handle] = api.getItemFromType(player, itemTypes[handle]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.shutdown();
+    }
+
+    /**
+     * Round-robin position of one benchmark thread over the item types
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int size) {
+            position = position + 1 == size ? 0 : position + 1;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public String getItemTypeFromStack(Cursor cursor) {
+        return api.getItemTypeFromStack(stacks[cursor.next(stacks.length)]);
+    }
+
+    @Benchmark
+    public int getItemTypeHandleFromStack(Cursor cursor) {
+        return api.getItemTypeHandleFromStack(stacks[cursor.next(stacks.length)]);
+    }
+
+    @Benchmark
+    public ItemStack getItemFromType(Cursor cursor) {
+        return api.getItemFromType(player, itemTypes[cursor.next(itemTypes.length)]);
+    }
+
+    @Benchmark
+    public ItemStack getItemFromHandle(Cursor cursor) {
+        return api.getItemFromType(player, cursor.next(itemTypes.length));
+    }
+}
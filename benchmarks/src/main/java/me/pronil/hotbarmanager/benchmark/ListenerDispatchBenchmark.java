@@ -0,0 +1,104 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import me.pronil.hotbarmanager.api.HotbarDiff;
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.ItemTypeRegistry;
+import me.pronil.hotbarmanager.api.event.HotbarListenerRegistry;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Cost of dispatching {@link HotbarListener} events to N synchronous listeners
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerDispatchBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int listenerCount;
+
+    private HotbarListenerRegistry registry;
+    private Player player;
+    private HotbarDiff diff;
+
+    @Setup
+    public void setUp() {
+        Proxies.installServer();
+        registry = new HotbarListenerRegistry(Logger.getLogger("ListenerDispatchBenchmark"));
+        for (int i = 0; i < listenerCount; i++) {
+            registry.register(new CountingListener());
+        }
+        UUID uuid = new UUID(0L, 1L);
+        player = Proxies.player(uuid, "player");
+
+        ItemTypeRegistry items = new InMemoryHotbarManagerAPI(Logger.getLogger("ListenerDispatchBenchmark"), 1)
+                .getItemTypeRegistry();
+        String[] after = InMemoryHotbarManagerAPI.DEFAULT_HOTBAR.clone();
+        after[0] = "melee-category3";
+        after[1] = "blocks-category2";
+        diff = new HotbarDiff(uuid, HotbarDiff.Cause.PRESET_LOAD, "default", InMemoryHotbarManagerAPI.DEFAULT_HOTBAR, after, items);
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.shutdown();
+    }
+
+    @Benchmark
+    public boolean fireHotbarSlotChanged() {
+        return registry.fireHotbarSlotChanged(player, 0, "melee-category0", "melee-category3");
+    }
+
+    @Benchmark
+    public boolean fireHotbarDiff() {
+        return registry.fireHotbarDiff(player, diff);
+    }
+
+    @Benchmark
+    public boolean fireManagerGUIOpened() {
+        return registry.fireManagerGUIOpened(player);
+    }
+
+    /**
+     * Listener doing a minimal amount of work per slot change
+     */
+    public static class CountingListener implements HotbarListener {
+
+        private int changes;
+
+        @Override
+        public boolean onHotbarSlotChanged(Player player, int slot, String oldItemType, String newItemType) {
+            changes++;
+            return true;
+        }
+
+        @Override
+        public boolean onManagerGUIOpened(Player player) {
+            changes++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import me.pronil.hotbarmanager.api.storage.BinaryHotbarStorage;
+import me.pronil.hotbarmanager.api.storage.BinaryHotbarStore;
+import me.pronil.hotbarmanager.api.storage.HotbarStorage;
+import me.pronil.hotbarmanager.api.storage.PlayerHotbarData;
+import me.pronil.hotbarmanager.api.storage.SqliteHotbarStorage;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.bukkit.DyeColor;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Drives a population of virtual players through the API and reports per-operation latency
+ *
+ * Runs headless against {@link InMemoryHotbarManagerAPI}, optionally writing every change
+ * through to a {@link HotbarStorage} and loading players from it when they join, the way
+ * the plugin does. Each worker thread owns a slice of the players and repeatedly picks one
+ * of them and a weighted random {@link Operation}; operations are timed from the call
+ * until their future completes. Storage writes are timed separately from submission to
+ * completion, and at most {@code --max-pending} of them are in flight at once, so a
+ * saturated storage backend shows up as latency on the operations that write.
+ * Operations that throw are counted as failures per operation and not timed. If a
+ * worker thread dies, the simulator reports it and exits with status 1.
+ *
+ * Options, all given as {@code --name=value}:
+ * <pre>
+ * --players=5000       virtual players
+ * --threads=&lt;cores&gt;    worker threads
+ * --warmup=5           seconds of unrecorded warm-up
+ * --duration=30        seconds recorded
+ * --listeners=10       synchronous listeners
+ * --observers=0        asynchronous observers
+ * --max-presets=5      presets per player
+ * --max-pending=10000  in-flight storage writes
+ * --storage=memory     memory, binary:&lt;directory&gt; or sqlite:&lt;file&gt;
+ * --seed=1             seed for the player UUIDs
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class LoadSimulator {
+
+    /**
+     * A simulated player action and its relative frequency
+     */
+    enum Operation {
+        JOIN(2),
+        GET_HOTBAR(35),
+        SLOT_EDIT(25),
+        PRESET_SAVE(6),
+        PRESET_LOAD(8),
+        PRESET_DELETE(3),
+        RESET(3),
+        GUI_OPEN(18);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final DyeColor[] TEAMS = {
+            DyeColor.RED, DyeColor.BLUE, DyeColor.GREEN, DyeColor.YELLOW,
+            DyeColor.LIGHT_BLUE, DyeColor.WHITE, DyeColor.PINK, DyeColor.GRAY
+    };
+
+    private final Map<String, String> options;
+    private final InMemoryHotbarManagerAPI api;
+    private final HotbarStorage storage;
+    private final Semaphore pendingWrites;
+    private final int maxPending;
+    private final int maxPresets;
+    private final String[] itemTypes;
+    private final Player[] players;
+    private final Recorder storageWrites = new Recorder(3);
+    private final LongAdder storageFailures = new LongAdder();
+    private final LongAdder events = new LongAdder();
+    private volatile boolean recording;
+
+    private LoadSimulator(Map<String, String> options) throws Exception {
+        this.options = options;
+        this.maxPresets = intOption("max-presets", 5);
+        this.maxPending = intOption("max-pending", 10_000);
+        this.api = new InMemoryHotbarManagerAPI(Logger.getLogger("LoadSimulator"), maxPresets);
+        this.storage = openStorage(options.getOrDefault("storage", "memory"));
+        this.pendingWrites = new Semaphore(maxPending);
+        List<String> available = new ArrayList<>();
+        for (String category : api.getAvailableCategories()) {
+            available.addAll(api.getCategoryItems(category));
+        }
+        this.itemTypes = available.toArray(new String[0]);
+
+        Random random = new Random(intOption("seed", 1));
+        this.players = new Player[intOption("players", 5000)];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = Proxies.player(new UUID(random.nextLong(), random.nextLong()), "player" + i);
+        }
+
+        HotbarListener listener = new HotbarListener() {
+            @Override
+            public boolean onHotbarSlotChanged(Player player, int slot, String oldItemType, String newItemType) {
+                events.increment();
+                return true;
+            }
+
+            @Override
+            public boolean onManagerGUIOpened(Player player) {
+                events.increment();
+                return true;
+            }
+        };
+        for (int i = intOption("listeners", 10); i > 0; i--) {
+            api.registerHotbarListener(listener);
+        }
+        for (int i = intOption("observers", 0); i > 0; i--) {
+            api.registerHotbarObserver(listener);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                System.err.println("Unrecognised argument " + arg + ", expected --name=value");
+                System.exit(1);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        if (!new LoadSimulator(options).run(System.out)) {
+            System.exit(1);
+        }
+    }
+
+    private boolean run(PrintStream out) throws Exception {
+        int threads = intOption("threads", Runtime.getRuntime().availableProcessors());
+        long warmupNanos = TimeUnit.SECONDS.toNanos(intOption("warmup", 5));
+        long durationNanos = TimeUnit.SECONDS.toNanos(intOption("duration", 30));
+        out.printf(Locale.ROOT, "%d players, %d threads, storage %s, %ds warm-up, %ds recorded%n",
+                players.length, threads, options.getOrDefault("storage", "memory"),
+                TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+
+        long start = System.nanoTime();
+        for (Player player : players) {
+            join(player);
+        }
+        out.printf(Locale.ROOT, "Joined all players in %d ms%n", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        List<Worker> workers = new ArrayList<>();
+        long measureStart = System.nanoTime() + warmupNanos;
+        long end = measureStart + durationNanos;
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(i, threads, measureStart, end);
+            worker.start();
+            workers.add(worker);
+        }
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(warmupNanos));
+        storageWrites.reset();
+        recording = true;
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        recording = false;
+        double seconds = durationNanos / 1e9;
+
+        Histogram[] merged = new Histogram[OPERATIONS.length];
+        long[] failures = new long[OPERATIONS.length];
+        for (Operation operation : OPERATIONS) {
+            merged[operation.ordinal()] = new Histogram(3);
+            for (Worker worker : workers) {
+                merged[operation.ordinal()].add(worker.latencies[operation.ordinal()]);
+                failures[operation.ordinal()] += worker.failures[operation.ordinal()];
+            }
+        }
+
+        long drainStart = System.nanoTime();
+        pendingWrites.acquire(maxPending);
+        long drainMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drainStart);
+
+        out.printf(Locale.ROOT, "%n%-14s %12s %12s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "ops/s", "p50 us", "p99 us", "p999 us", "max us", "failed");
+        long total = 0;
+        long totalFailures = 0;
+        for (Operation operation : OPERATIONS) {
+            Histogram histogram = merged[operation.ordinal()];
+            total += histogram.getTotalCount();
+            totalFailures += failures[operation.ordinal()];
+            print(out, operation.name().toLowerCase(Locale.ROOT), histogram, seconds, failures[operation.ordinal()]);
+        }
+        if (storage != null) {
+            print(out, "storage_write", storageWrites.getIntervalHistogram(), seconds, storageFailures.sum());
+        }
+        out.printf(Locale.ROOT, "%-14s %12d %12.0f %43s %10d%n", "total", total, total / seconds, "", totalFailures);
+        out.printf(Locale.ROOT, "%nListener events: %d%n", events.sum());
+        if (storage != null) {
+            out.printf(Locale.ROOT, "Storage failures: %d, pending writes drained in %d ms%n", storageFailures.sum(), drainMillis);
+            storage.close();
+        }
+        api.shutdown();
+
+        boolean healthy = true;
+        for (Worker worker : workers) {
+            if (worker.firstFailure != null) {
+                out.printf(Locale.ROOT, "%s: first failure %s%n", worker.getName(), worker.firstFailure);
+            }
+            if (worker.death != null) {
+                out.printf(Locale.ROOT, "%s died%n", worker.getName());
+                worker.death.printStackTrace(out);
+                healthy = false;
+            }
+        }
+        return healthy;
+    }
+
+    private static void print(PrintStream out, String name, Histogram histogram, double seconds, long failures) {
+        out.printf(Locale.ROOT, "%-14s %12d %12.0f %10.1f %10.1f %10.1f %10.1f %10d%n",
+                name, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMaxValue() / 1e3, failures);
+    }
+
+    private void join(Player player) {
+        if (storage != null) {
+            PlayerHotbarData data = storage.load(player.getUniqueId()).join();
+            if (data != null) {
+                api.restore(data);
+            }
+        }
+        api.join(player, TEAMS[Math.floorMod(player.getUniqueId().hashCode(), TEAMS.length)]);
+    }
+
+    private void perform(Operation operation, Player player, ThreadLocalRandom random) throws InterruptedException {
+        UUID uuid = player.getUniqueId();
+        switch (operation) {
+            case JOIN:
+                api.quit(player);
+                join(player);
+                return;
+            case GET_HOTBAR:
+                if (api.getPlayerHotbar(uuid).length != HotbarManagerAPI.HOTBAR_SIZE) {
+                    throw new IllegalStateException("Hotbar of " + uuid + " has the wrong size");
+                }
+                return;
+            case SLOT_EDIT:
+                String itemType = random.nextInt(5) == 0
+                        ? HotbarManagerAPI.EMPTY_SLOT : itemTypes[random.nextInt(itemTypes.length)];
+                api.setPlayerHotbarSlot(uuid, random.nextInt(HotbarManagerAPI.HOTBAR_SIZE), itemType).join();
+                break;
+            case PRESET_SAVE:
+                api.savePlayerPreset(uuid, presetName(random)).join();
+                break;
+            case PRESET_LOAD:
+                api.loadPlayerPreset(uuid, presetName(random)).join();
+                break;
+            case PRESET_DELETE:
+                api.deletePlayerPreset(uuid, presetName(random)).join();
+                break;
+            case RESET:
+                api.resetPlayerHotbar(uuid).join();
+                break;
+            case GUI_OPEN:
+                api.openManagerGUI(player, false);
+                // the GUI shows the player's hotbar items
+                for (String slotItem : api.getPlayerHotbar(uuid)) {
+                    if (!HotbarManagerAPI.EMPTY_SLOT.equals(slotItem)) {
+                        api.getItemFromType(player, slotItem);
+                    }
+                }
+                return;
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+        persist(uuid);
+    }
+
+    private String presetName(ThreadLocalRandom random) {
+        return "preset" + random.nextInt(maxPresets + 1);
+    }
+
+    private void persist(UUID uuid) throws InterruptedException {
+        if (storage == null) {
+            return;
+        }
+        pendingWrites.acquire();
+        long submitted = System.nanoTime();
+        storage.save(api.snapshot(uuid)).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                storageFailures.increment();
+            } else if (recording) {
+                storageWrites.recordValue(System.nanoTime() - submitted);
+            }
+            pendingWrites.release();
+        });
+    }
+
+    private HotbarStorage openStorage(String spec) throws Exception {
+        if (spec.equals("memory")) {
+            return null;
+        }
+        if (spec.startsWith("binary:")) {
+            return new BinaryHotbarStorage(new BinaryHotbarStore(new File(spec.substring("binary:".length()))));
+        }
+        if (spec.startsWith("sqlite:")) {
+            return new SqliteHotbarStorage(new File(spec.substring("sqlite:".length())));
+        }
+        throw new IllegalArgumentException("Unknown storage " + spec + ", expected memory, binary:<directory> or sqlite:<file>");
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    /**
+     * Runs operations on its slice of the players and records their latency
+     */
+    private final class Worker extends Thread {
+
+        private final int offset;
+        private final int stride;
+        private final long measureStart;
+        private final long end;
+        private final Histogram[] latencies = new Histogram[OPERATIONS.length];
+        private final long[] failures = new long[OPERATIONS.length];
+        private final int[] cumulativeWeights = new int[OPERATIONS.length];
+        private volatile Throwable firstFailure;
+        private volatile Throwable death;
+
+        private Worker(int offset, int stride, long measureStart, long end) {
+            super("LoadSimulator Worker " + offset);
+            this.offset = offset;
+            this.stride = stride;
+            this.measureStart = measureStart;
+            this.end = end;
+            int sum = 0;
+            for (Operation operation : OPERATIONS) {
+                latencies[operation.ordinal()] = new Histogram(3);
+                sum += operation.weight;
+                cumulativeWeights[operation.ordinal()] = sum;
+            }
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int slice = (players.length - offset + stride - 1) / stride;
+            if (slice <= 0) {
+                return;
+            }
+            int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+            try {
+                long now = System.nanoTime();
+                while (now < end) {
+                    Player player = players[offset + random.nextInt(slice) * stride];
+                    int roll = random.nextInt(totalWeight);
+                    int index = 0;
+                    while (roll >= cumulativeWeights[index]) {
+                        index++;
+                    }
+                    try {
+                        perform(OPERATIONS[index], player, random);
+                    } catch (RuntimeException e) {
+                        if (now >= measureStart) {
+                            failures[index]++;
+                        }
+                        if (firstFailure == null) {
+                            firstFailure = e;
+                        }
+                        now = System.nanoTime();
+                        continue;
+                    }
+                    long finished = System.nanoTime();
+                    if (now >= measureStart) {
+                        latencies[index].recordValue(finished - now);
+                    }
+                    now = finished;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                death = t;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Proxy-based stand-ins for the Bukkit objects the API needs, so it runs without a server
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class Proxies {
+
+    private static final Logger LOGGER = Logger.getLogger("HotbarManager-Benchmarks");
+
+    private Proxies() {
+    }
+
+    /**
+     * Installs a headless server, once, so item stacks can be built and compared
+     *
+     * Its item factory gives every item stack empty metadata, so stacks are told apart by
+     * material and data value only.
+     */
+    public static synchronized void installServer() {
+        if (Bukkit.getServer() != null) {
+            return;
+        }
+        ItemFactory itemFactory = proxy(ItemFactory.class, (proxy, method, args) -> {
+            if (method.getName().equals("equals") && args != null && args.length == 2) {
+                return Objects.equals(args[0], args[1]);
+            }
+            return objectMethod(proxy, method, args, "HeadlessItemFactory");
+        });
+        Server server = proxy(Server.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getItemFactory":
+                    return itemFactory;
+                case "getLogger":
+                    return LOGGER;
+                case "getName":
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "headless";
+                case "isPrimaryThread":
+                    return true;
+                default:
+                    return objectMethod(proxy, method, args, "HeadlessServer");
+            }
+        });
+        Bukkit.setServer(server);
+    }
+
+    /**
+     * Creates an online player that only knows its UUID and name
+     * @param uuid The player's UUID
+     * @param name The player's name
+     * @return The fake player
+     */
+    public static Player player(UUID uuid, String name) {
+        return proxy(Player.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                case "getDisplayName":
+                    return name;
+                case "isOnline":
+                    return true;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return args[0] instanceof Player && uuid.equals(((Player) args[0]).getUniqueId());
+                case "toString":
+                    return "FakePlayer[" + name + "]";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Object objectMethod(Object proxy, Method method, Object[] args, String description) {
+        switch (method.getName()) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return description;
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(Proxies.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
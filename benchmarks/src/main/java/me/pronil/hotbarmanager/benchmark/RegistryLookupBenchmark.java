@@ -0,0 +1,98 @@
+package me.pronil.hotbarmanager.benchmark;
+
+import me.pronil.hotbarmanager.api.HotbarLayout;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import me.pronil.hotbarmanager.api.ItemTypeRegistry;
+import org.bukkit.DyeColor;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Cost of the handle-based default methods of {@link HotbarManagerAPI}
+ *
+ * With {@code defaultLookup} set, {@link HotbarManagerAPI#getItemTypeRegistry()} runs
+ * the interface's default implementation, as it does for implementations that do not
+ * keep their own registry; otherwise the registry is returned from a field.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryLookupBenchmark {
+
+    @Param({"false", "true"})
+    public boolean defaultLookup;
+
+    private InMemoryHotbarManagerAPI api;
+    private UUID uuid;
+    private int handles;
+
+    @Setup
+    public void setUp() {
+        api = new InMemoryHotbarManagerAPI(Logger.getLogger("RegistryLookupBenchmark"), 1, defaultLookup);
+        uuid = new UUID(0L, 1L);
+        Player player = Proxies.player(uuid, "player");
+        api.join(player, DyeColor.RED);
+        handles = api.getItemTypeRegistry().size();
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.shutdown();
+    }
+
+    /**
+     * Round-robin position of one benchmark thread over the item type handles
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int size) {
+            position = position + 1 == size ? 0 : position + 1;
+            return position;
+        }
+    }
+
+    @Benchmark
+    public ItemTypeRegistry getItemTypeRegistry() {
+        return api.getItemTypeRegistry();
+    }
+
+    @Benchmark
+    public boolean isValidItemTypeHandle(Cursor cursor) {
+        return api.isValidItemType(cursor.next(handles));
+    }
+
+    @Benchmark
+    public String getItemCategoryHandle(Cursor cursor) {
+        return api.getItemCategory(cursor.next(handles));
+    }
+
+    @Benchmark
+    public HotbarLayout getPlayerHotbarLayout() {
+        return api.getPlayerHotbarLayout(uuid);
+    }
+}
@@ -9,16 +9,17 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Example addon for HotbarManager that tracks player statistics
  * 
  * This addon demonstrates how to:
  * - Use the HotbarManager API
- * - Listen to hotbar events
+ * - Observe hotbar events asynchronously
  * - Track player statistics
  * - Provide commands for viewing stats
  * 
@@ -29,7 +30,7 @@ import java.util.UUID;
 public class HotbarStatsAddon extends JavaPlugin implements HotbarListener {
 
     private HotbarManagerAPI api;
-    private final Map<UUID, PlayerStats> playerStats = new HashMap<>();
+    private final Map<UUID, PlayerStats> playerStats = new ConcurrentHashMap<>();
 
     @Override
     public void onEnable() {
@@ -44,8 +45,9 @@ public class HotbarStatsAddon extends JavaPlugin implements HotbarListener {
 
         getLogger().info("HotbarStats Addon enabled! Tracking hotbar statistics for players.");
         
-        // Register this addon as a listener
-        api.registerHotbarListener(this);
+        // Register this addon as an observer; statistics never cancel events,
+        // so they can be collected off the main thread
+        api.registerHotbarObserver(this);
         
         // Initialize stats for online players
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -230,34 +232,36 @@ public class HotbarStatsAddon extends JavaPlugin implements HotbarListener {
 
     /**
      * Simple class to track player statistics
+     * 
+     * Updated from the observer thread and read from the main thread.
      */
     private static class PlayerStats {
-        private int hotbarChanges = 0;
-        private int presetsSaved = 0;
-        private int presetsLoaded = 0;
-        private int presetsDeleted = 0;
-        private int guiOpens = 0;
-        private int itemsAdded = 0;
-        private int itemsRemoved = 0;
-        private int hotbarResets = 0;
+        private final AtomicInteger hotbarChanges = new AtomicInteger();
+        private final AtomicInteger presetsSaved = new AtomicInteger();
+        private final AtomicInteger presetsLoaded = new AtomicInteger();
+        private final AtomicInteger presetsDeleted = new AtomicInteger();
+        private final AtomicInteger guiOpens = new AtomicInteger();
+        private final AtomicInteger itemsAdded = new AtomicInteger();
+        private final AtomicInteger itemsRemoved = new AtomicInteger();
+        private final AtomicInteger hotbarResets = new AtomicInteger();
 
-        public void incrementHotbarChanges() { hotbarChanges++; }
-        public void incrementPresetsSaved() { presetsSaved++; }
-        public void incrementPresetsLoaded() { presetsLoaded++; }
-        public void incrementPresetsDeleted() { presetsDeleted++; }
-        public void incrementGuiOpens() { guiOpens++; }
-        public void incrementItemsAdded() { itemsAdded++; }
-        public void incrementItemsRemoved() { itemsRemoved++; }
-        public void incrementHotbarResets() { hotbarResets++; }
+        public void incrementHotbarChanges() { hotbarChanges.incrementAndGet(); }
+        public void incrementPresetsSaved() { presetsSaved.incrementAndGet(); }
+        public void incrementPresetsLoaded() { presetsLoaded.incrementAndGet(); }
+        public void incrementPresetsDeleted() { presetsDeleted.incrementAndGet(); }
+        public void incrementGuiOpens() { guiOpens.incrementAndGet(); }
+        public void incrementItemsAdded() { itemsAdded.incrementAndGet(); }
+        public void incrementItemsRemoved() { itemsRemoved.incrementAndGet(); }
+        public void incrementHotbarResets() { hotbarResets.incrementAndGet(); }
 
         // Getters
-        public int getHotbarChanges() { return hotbarChanges; }
-        public int getPresetsSaved() { return presetsSaved; }
-        public int getPresetsLoaded() { return presetsLoaded; }
-        public int getPresetsDeleted() { return presetsDeleted; }
-        public int getGuiOpens() { return guiOpens; }
-        public int getItemsAdded() { return itemsAdded; }
-        public int getItemsRemoved() { return itemsRemoved; }
-        public int getHotbarResets() { return hotbarResets; }
+        public int getHotbarChanges() { return hotbarChanges.get(); }
+        public int getPresetsSaved() { return presetsSaved.get(); }
+        public int getPresetsLoaded() { return presetsLoaded.get(); }
+        public int getPresetsDeleted() { return presetsDeleted.get(); }
+        public int getGuiOpens() { return guiOpens.get(); }
+        public int getItemsAdded() { return itemsAdded.get(); }
+        public int getItemsRemoved() { return itemsRemoved.get(); }
+        public int getHotbarResets() { return hotbarResets.get(); }
     }
 }
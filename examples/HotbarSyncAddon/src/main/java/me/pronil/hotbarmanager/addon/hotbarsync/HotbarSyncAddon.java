@@ -1,5 +1,6 @@
 package me.pronil.hotbarmanager.addon.hotbarsync;
 
+import me.pronil.hotbarmanager.api.HotbarExecutors;
 import me.pronil.hotbarmanager.api.HotbarManagerAPI;
 import me.pronil.hotbarmanager.api.HotbarManagerProvider;
 import org.bukkit.Bukkit;
@@ -14,7 +15,7 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Advanced example addon for HotbarManager that synchronizes hotbars between players
@@ -32,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 public class HotbarSyncAddon extends JavaPlugin implements Listener {
 
     private HotbarManagerAPI api;
+    private Executor mainThread;
     private final Map<UUID, String> playerTeams = new HashMap<>();
     private final Map<String, String[]> teamHotbars = new HashMap<>();
 
@@ -46,6 +48,8 @@ public class HotbarSyncAddon extends JavaPlugin implements Listener {
             return;
         }
 
+        mainThread = HotbarExecutors.mainThread(this);
+
         getLogger().info("HotbarSync Addon enabled! Synchronizing hotbars between team members.");
         
         // Register event listeners
@@ -182,24 +186,20 @@ public class HotbarSyncAddon extends JavaPlugin implements Listener {
         
         player.sendMessage("§aSyncing your hotbar with team: " + teamName);
         
-        // Apply team hotbar to player asynchronously
-        CompletableFuture.runAsync(() -> {
-            try {
-                for (int i = 0; i < 9; i++) {
-                    if (teamHotbar[i] != null && !teamHotbar[i].equals("null")) {
-                        api.setPlayerHotbarSlot(player, i, teamHotbar[i]).join();
-                    }
-                }
-                
-                // Notify player on main thread
-                Bukkit.getScheduler().runTask(this, () -> {
-                    player.sendMessage("§aHotbar synced with team successfully!");
-                });
-                
-            } catch (Exception e) {
-                Bukkit.getScheduler().runTask(this, () -> {
-                    player.sendMessage("§cFailed to sync hotbar: " + e.getMessage());
-                });
+        // Keep the player's own items in slots the team hotbar leaves empty
+        String[] hotbar = api.getPlayerHotbar(player);
+        for (int i = 0; i < 9; i++) {
+            if (teamHotbar[i] != null && !teamHotbar[i].equals("null")) {
+                hotbar[i] = teamHotbar[i];
+            }
+        }
+        
+        // Apply the whole hotbar in one operation and get the result back on the main thread
+        api.setPlayerHotbar(player.getUniqueId(), hotbar, mainThread).whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                player.sendMessage("§aHotbar synced with team successfully!");
+            } else {
+                player.sendMessage("§cFailed to sync hotbar: " + throwable.getMessage());
             }
         });
     }
@@ -0,0 +1,87 @@
+package me.pronil.hotbarmanager.api;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * State kept by the default methods of {@link HotbarManagerAPI} for each API instance
+ *
+ * Interfaces cannot hold instance fields, so the defaults keep their caches here,
+ * weakly keyed by the API instance. The state of the most recently used instance is
+ * remembered in a volatile field, so the common case of a single API per server is
+ * answered without locking.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class DefaultApiState {
+
+    /**
+     * Maximum number of players whose snapshot is kept by the default snapshot methods
+     */
+    static final int SNAPSHOT_CAPACITY = 1024;
+
+    private static final Map<HotbarManagerAPI, DefaultApiState> STATES = new WeakHashMap<>();
+    private static volatile DefaultApiState last;
+
+    private final WeakReference<HotbarManagerAPI> api;
+    private final HotbarSnapshotStore snapshots = new HotbarSnapshotStore(SNAPSHOT_CAPACITY);
+    private volatile ItemTypeRegistry registry;
+
+    private DefaultApiState(HotbarManagerAPI api) {
+        this.api = new WeakReference<>(api);
+    }
+
+    /**
+     * Gets the state of an API instance, creating it on first use
+     * @param api The API instance
+     * @return The instance's state
+     */
+    static DefaultApiState of(HotbarManagerAPI api) {
+        DefaultApiState state = last;
+        if (state != null && state.api.get() == api) {
+            return state;
+        }
+        synchronized (STATES) {
+            state = STATES.computeIfAbsent(api, DefaultApiState::new);
+        }
+        last = state;
+        return state;
+    }
+
+    /**
+     * Gets the snapshots published by the default snapshot methods
+     *
+     * The store is bounded, since nothing tells the defaults when a player's data is unloaded.
+     * @return The instance's snapshot store
+     */
+    HotbarSnapshotStore getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Gets the registry of the API's current configuration generation, building it if needed
+     * @return The cached registry
+     */
+    ItemTypeRegistry getItemTypeRegistry() {
+        HotbarManagerAPI owner = api.get();
+        ItemTypeRegistry current = registry;
+        if (owner == null) {
+            return current;
+        }
+        long generation = owner.getConfigurationGeneration();
+        if (current != null && current.getGeneration() == generation) {
+            return current;
+        }
+        synchronized (this) {
+            current = registry;
+            if (current == null || current.getGeneration() != generation) {
+                current = ItemTypeRegistry.fromAPI(owner);
+                registry = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package me.pronil.hotbarmanager.api;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Coalesced description of a change affecting several hotbar slots at once
+ *
+ * Preset loads, resets and whole-hotbar writes are reported to listeners as one
+ * {@code HotbarDiff} through {@link HotbarListener#onHotbarDiff(org.bukkit.entity.Player, HotbarDiff)}
+ * instead of one event per slot. The diff carries the layouts before and after the
+ * change, the item type identifiers of both sides and a bitmask of the slots that
+ * differ. Item types are reported as given rather than read back from the layouts, so
+ * types the registry does not know are not mistaken for empty slots.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class HotbarDiff {
+
+    /**
+     * The operation that produced a diff
+     */
+    public enum Cause {
+
+        /**
+         * A preset was loaded
+         */
+        PRESET_LOAD,
+
+        /**
+         * The hotbar was reset to default configuration
+         */
+        RESET,
+
+        /**
+         * Several slots were written in one operation, for example through
+         * {@link HotbarManagerAPI#setPlayerHotbar(UUID, String[])}
+         */
+        BULK_SET
+    }
+
+    private final UUID uuid;
+    private final Cause cause;
+    private final String presetName;
+    private final HotbarLayout before;
+    private final HotbarLayout after;
+    private final String[] beforeItemTypes;
+    private final String[] afterItemTypes;
+    private final int changedSlots;
+    private final ItemTypeRegistry registry;
+
+    /**
+     * Creates a new diff
+     * @param uuid The UUID of the player whose hotbar changed
+     * @param cause The operation that produced the diff
+     * @param presetName Name of the loaded preset, or null if the cause is not {@link Cause#PRESET_LOAD}
+     * @param before Array of 9 item type identifiers before the change, null or
+     *               {@link HotbarManagerAPI#EMPTY_SLOT} for empty slots
+     * @param after Array of 9 item type identifiers after the change, null or
+     *              {@link HotbarManagerAPI#EMPTY_SLOT} for empty slots
+     * @param registry Registry used to pack both sides into layouts
+     */
+    public HotbarDiff(UUID uuid, Cause cause, String presetName, String[] before, String[] after, ItemTypeRegistry registry) {
+        if (before.length != HotbarManagerAPI.HOTBAR_SIZE || after.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Hotbars must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots");
+        }
+        this.uuid = uuid;
+        this.cause = cause;
+        this.presetName = presetName;
+        this.beforeItemTypes = normalize(before);
+        this.afterItemTypes = normalize(after);
+        this.before = HotbarLayout.fromItemTypes(beforeItemTypes, registry);
+        this.after = HotbarLayout.fromItemTypes(afterItemTypes, registry);
+        int changed = 0;
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            if (!Objects.equals(beforeItemTypes[slot], afterItemTypes[slot])) {
+                changed |= 1 << slot;
+            }
+        }
+        this.changedSlots = changed;
+        this.registry = registry;
+    }
+
+    /**
+     * Gets the UUID of the player whose hotbar changed
+     * @return The player's UUID
+     */
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * Gets the operation that produced this diff
+     * @return The cause
+     */
+    public Cause getCause() {
+        return cause;
+    }
+
+    /**
+     * Gets the name of the loaded preset
+     * @return Preset name, or null if the cause is not {@link Cause#PRESET_LOAD}
+     */
+    public String getPresetName() {
+        return presetName;
+    }
+
+    /**
+     * Gets the layout before the change
+     * @return Previous layout
+     */
+    public HotbarLayout getBefore() {
+        return before;
+    }
+
+    /**
+     * Gets the layout after the change
+     * @return New layout
+     */
+    public HotbarLayout getAfter() {
+        return after;
+    }
+
+    /**
+     * Gets the slots that changed
+     * @return Bitmask with bit {@code n} set if slot {@code n} changed
+     */
+    public int getChangedSlots() {
+        return changedSlots;
+    }
+
+    /**
+     * Checks if a slot changed
+     * @param slot Hotbar slot index (0-8)
+     * @return true if the slot changed, false otherwise
+     */
+    public boolean isSlotChanged(int slot) {
+        return (changedSlots & (1 << slot)) != 0;
+    }
+
+    /**
+     * Gets the number of slots that changed
+     * @return Changed slot count (0-9)
+     */
+    public int getChangedSlotCount() {
+        return Integer.bitCount(changedSlots);
+    }
+
+    /**
+     * Gets the item type a slot held before the change
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type identifier, or {@link HotbarManagerAPI#EMPTY_SLOT} if the slot was empty
+     */
+    public String getOldItemType(int slot) {
+        return beforeItemTypes[slot];
+    }
+
+    /**
+     * Gets the item type a slot holds after the change
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type identifier, or {@link HotbarManagerAPI#EMPTY_SLOT} if the slot is empty
+     */
+    public String getNewItemType(int slot) {
+        return afterItemTypes[slot];
+    }
+
+    /**
+     * Gets the registry the layouts' handles belong to
+     * @return Item type registry
+     */
+    public ItemTypeRegistry getRegistry() {
+        return registry;
+    }
+
+    private static String[] normalize(String[] hotbar) {
+        String[] itemTypes = hotbar.clone();
+        for (int slot = 0; slot < itemTypes.length; slot++) {
+            if (itemTypes[slot] == null) {
+                itemTypes[slot] = HotbarManagerAPI.EMPTY_SLOT;
+            }
+        }
+        return itemTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "HotbarDiff[" + uuid + ", " + cause + ", changed=" + Integer.toBinaryString(changedSlots) + "]";
+    }
+}
@@ -0,0 +1,75 @@
+package me.pronil.hotbarmanager.api;
+
+import org.bukkit.entity.Player;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The events a {@link HotbarListener} can receive
+ *
+ * Each constant corresponds to one callback method of {@link HotbarListener}. Listeners
+ * can be registered for a subset of events, and by default are only subscribed to the
+ * events whose callbacks they actually override.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public enum HotbarEventType {
+
+    HOTBAR_SLOT_CHANGED("onHotbarSlotChanged", Player.class, int.class, String.class, String.class),
+    HOTBAR_RESET("onHotbarReset", Player.class),
+    PRESET_SAVED("onPresetSaved", Player.class, String.class),
+    PRESET_LOADED("onPresetLoaded", Player.class, String.class),
+    PRESET_DELETED("onPresetDeleted", Player.class, String.class),
+    MANAGER_GUI_OPENED("onManagerGUIOpened", Player.class),
+    SELECTION_GUI_OPENED("onSelectionGUIOpened", Player.class, String.class),
+    ITEM_ADDED_TO_HOTBAR("onItemAddedToHotbar", Player.class, int.class, String.class),
+    ITEM_REMOVED_FROM_HOTBAR("onItemRemovedFromHotbar", Player.class, int.class, String.class),
+    HOTBAR_DIFF("onHotbarDiff", Player.class, HotbarDiff.class);
+
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+
+    HotbarEventType(String methodName, Class<?>... parameterTypes) {
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Gets the name of the {@link HotbarListener} method handling this event
+     * @return Callback method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Checks if a listener overrides the callback of this event
+     * @param listener The listener to check
+     * @return true if the listener's class overrides the default callback, false otherwise
+     */
+    public boolean isOverriddenBy(HotbarListener listener) {
+        try {
+            return listener.getClass().getMethod(methodName, parameterTypes).getDeclaringClass() != HotbarListener.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Detects the events a listener is interested in
+     * @param listener The listener to inspect
+     * @return Set of events whose callbacks the listener overrides
+     */
+    public static Set<HotbarEventType> detect(HotbarListener listener) {
+        Set<HotbarEventType> events = EnumSet.noneOf(HotbarEventType.class);
+        for (HotbarEventType type : values()) {
+            if (type.isOverriddenBy(listener)) {
+                events.add(type);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,104 @@
+package me.pronil.hotbarmanager.api;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for use with the executor overloads of {@link HotbarManagerAPI}
+ *
+ * Usage:
+ * <pre>
+ * Executor mainThread = HotbarExecutors.mainThread(this);
+ * api.setPlayerHotbar(uuid, hotbar, mainThread)
+ *         .thenRun(() -&gt; player.sendMessage("Hotbar updated"));
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class HotbarExecutors {
+
+    private static final boolean VIRTUAL_THREADS = hasVirtualThreads();
+
+    private HotbarExecutors() {
+    }
+
+    /**
+     * Gets an executor that runs tasks on the server's main thread
+     *
+     * Tasks submitted from the main thread run immediately instead of waiting for the
+     * next tick; tasks from other threads are scheduled for the next tick.
+     * @param plugin Plugin owning the scheduled tasks
+     * @return The main-thread executor
+     */
+    public static Executor mainThread(Plugin plugin) {
+        return command -> {
+            if (Bukkit.isPrimaryThread()) {
+                command.run();
+            } else {
+                Bukkit.getScheduler().runTask(plugin, command);
+            }
+        };
+    }
+
+    /**
+     * Checks if the running Java version supports virtual threads (Java 21 or newer)
+     * @return true if {@link #newIoExecutor(String, int)} creates virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREADS;
+    }
+
+    /**
+     * Creates an executor for blocking storage I/O
+     *
+     * On Java 21 and newer every task runs on its own virtual thread, so blocked I/O
+     * does not hold a platform thread. On older versions a fixed pool of daemon threads
+     * is used instead.
+     * @param name Thread name prefix
+     * @param platformThreads Pool size used when virtual threads are not supported
+     * @return A new executor, which the caller must shut down
+     */
+    public static ExecutorService newIoExecutor(String name, int platformThreads) {
+        if (VIRTUAL_THREADS) {
+            try {
+                return newVirtualThreadExecutor(name + " #");
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // fall back to platform threads
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(platformThreads, factory);
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // Thread.ofVirtual() is Java 21 API, so it is called reflectively to keep Java 8 compatibility
+    private static ExecutorService newVirtualThreadExecutor(String prefix) throws ReflectiveOperationException {
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+        builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+        ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, factory);
+    }
+}
@@ -0,0 +1,78 @@
+package me.pronil.hotbarmanager.api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Future helpers shared by the default methods of {@link HotbarManagerAPI}
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class HotbarFutures {
+
+    private HotbarFutures() {
+    }
+
+    /**
+     * Creates a future that is already completed exceptionally
+     * @param throwable The failure cause
+     * @return The failed future
+     */
+    static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Waits for a group of per-player operations and reports which of them succeeded
+     * @param operations Pending operation for each player
+     * @return Future completing with true for every player whose operation completed normally
+     */
+    static CompletableFuture<Map<UUID, Boolean>> collect(Map<UUID, ? extends CompletableFuture<?>> operations) {
+        Map<UUID, Boolean> results = Collections.synchronizedMap(new LinkedHashMap<>());
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[operations.size()];
+        int index = 0;
+        for (Map.Entry<UUID, ? extends CompletableFuture<?>> entry : operations.entrySet()) {
+            UUID uuid = entry.getKey();
+            results.put(uuid, Boolean.FALSE);
+            pending[index++] = entry.getValue().handle((result, throwable) -> {
+                results.put(uuid, throwable == null && !Boolean.FALSE.equals(result));
+                return null;
+            });
+        }
+        return CompletableFuture.allOf(pending).thenApply(ignored -> Collections.unmodifiableMap(results));
+    }
+
+    /**
+     * Mirrors a future into one that is completed on an executor
+     * @param future The future to mirror
+     * @param executor Executor completing the returned future
+     * @return Future with the same outcome, completed by a task on {@code executor}, or
+     *         completed exceptionally in place if the executor refuses the task
+     */
+    static <T> CompletableFuture<T> completeOn(CompletableFuture<T> future, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            try {
+                executor.execute(() -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Rejected by a shut down pool, or by the Bukkit scheduler of a disabled plugin
+                result.completeExceptionally(throwable != null ? throwable : e);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,240 @@
+package me.pronil.hotbarmanager.api;
+
+/**
+ * Immutable, packed representation of a full hotbar
+ *
+ * The nine slots are stored as {@link ItemTypeRegistry} handles packed into two
+ * {@code long} words, 12 bits per slot. Equality and hashing are constant time, and
+ * {@link #diff(HotbarLayout)} returns a bitmask of changed slots without looking at
+ * any strings. Like handles, a layout is only meaningful together with the registry
+ * generation it was built from.
+ *
+ * Usage:
+ * <pre>
+ * HotbarLayout current = api.getPlayerHotbarLayout(player);
+ * int changed = current.diff(teamLayout);
+ * if (changed != 0) {
+ *     api.setPlayerHotbar(player, teamLayout);
+ * }
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class HotbarLayout {
+
+    /**
+     * Highest item type handle that fits into a packed slot
+     */
+    public static final int MAX_HANDLE = 4094;
+
+    /**
+     * Layout with every slot empty
+     */
+    public static final HotbarLayout EMPTY = new HotbarLayout(0L, 0L);
+
+    private static final int BITS_PER_SLOT = 12;
+    private static final long SLOT_MASK = (1L << BITS_PER_SLOT) - 1;
+    private static final int SLOTS_IN_LOW_WORD = 5;
+
+    private final long low;
+    private final long high;
+
+    private HotbarLayout(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Creates a layout from nine item type handles
+     * @param handles Item type handle for each slot, {@link ItemTypeRegistry#NONE} for empty slots
+     * @return The packed layout
+     * @throws IllegalArgumentException if there are not 9 handles or a handle is above {@link #MAX_HANDLE}
+     */
+    public static HotbarLayout of(int... handles) {
+        if (handles.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Layout must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots, got " + handles.length);
+        }
+        HotbarLayout layout = EMPTY;
+        for (int slot = 0; slot < handles.length; slot++) {
+            layout = layout.withHandle(slot, handles[slot]);
+        }
+        return layout;
+    }
+
+    /**
+     * Creates a layout from an array of item type identifiers
+     *
+     * Empty slots, null entries and item types unknown to the registry become empty slots.
+     * @param hotbar Array of 9 item type identifiers
+     * @param registry Registry used to resolve the identifiers
+     * @return The packed layout
+     * @throws IllegalArgumentException if the array does not have 9 entries
+     */
+    public static HotbarLayout fromItemTypes(String[] hotbar, ItemTypeRegistry registry) {
+        int[] handles = new int[hotbar.length];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            handles[slot] = registry.getHandle(hotbar[slot]);
+        }
+        return of(handles);
+    }
+
+    /**
+     * Recreates a layout from its packed words
+     * @param low Packed slots 0-4, as returned by {@link #getPackedLow()}
+     * @param high Packed slots 5-8, as returned by {@link #getPackedHigh()}
+     * @return The layout
+     */
+    public static HotbarLayout fromPacked(long low, long high) {
+        return low == 0L && high == 0L ? EMPTY : new HotbarLayout(low, high);
+    }
+
+    /**
+     * Gets the item type handle in a slot
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type handle, or {@link ItemTypeRegistry#NONE} if the slot is empty
+     */
+    public int getHandle(int slot) {
+        checkSlot(slot);
+        long word = slot < SLOTS_IN_LOW_WORD ? low : high;
+        return (int) ((word >>> shift(slot)) & SLOT_MASK) - 1;
+    }
+
+    /**
+     * Checks if a slot is empty
+     * @param slot Hotbar slot index (0-8)
+     * @return true if the slot holds no item, false otherwise
+     */
+    public boolean isEmpty(int slot) {
+        return getHandle(slot) == ItemTypeRegistry.NONE;
+    }
+
+    /**
+     * Returns a copy of this layout with one slot replaced
+     * @param slot Hotbar slot index (0-8)
+     * @param handle Item type handle, {@link ItemTypeRegistry#NONE} or any negative value for an empty slot
+     * @return The new layout
+     * @throws IllegalArgumentException if the handle is above {@link #MAX_HANDLE}
+     */
+    public HotbarLayout withHandle(int slot, int handle) {
+        checkSlot(slot);
+        if (handle > MAX_HANDLE) {
+            throw new IllegalArgumentException("Item type handle " + handle + " exceeds " + MAX_HANDLE);
+        }
+        long value = handle < 0 ? 0L : handle + 1L;
+        int shift = shift(slot);
+        if (slot < SLOTS_IN_LOW_WORD) {
+            return fromPacked((low & ~(SLOT_MASK << shift)) | (value << shift), high);
+        }
+        return fromPacked(low, (high & ~(SLOT_MASK << shift)) | (value << shift));
+    }
+
+    /**
+     * Compares this layout with another one
+     * @param other The layout to compare with
+     * @return Bitmask with bit {@code n} set if slot {@code n} differs, 0 if the layouts are equal
+     */
+    public int diff(HotbarLayout other) {
+        long lowChanges = low ^ other.low;
+        long highChanges = high ^ other.high;
+        if (lowChanges == 0L && highChanges == 0L) {
+            return 0;
+        }
+
+        int mask = 0;
+        for (int slot = 0; slot < SLOTS_IN_LOW_WORD; slot++) {
+            if (((lowChanges >>> shift(slot)) & SLOT_MASK) != 0L) {
+                mask |= 1 << slot;
+            }
+        }
+        for (int slot = SLOTS_IN_LOW_WORD; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            if (((highChanges >>> shift(slot)) & SLOT_MASK) != 0L) {
+                mask |= 1 << slot;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the item type handles of all slots
+     * @return New array of 9 handles, {@link ItemTypeRegistry#NONE} for empty slots
+     */
+    public int[] toHandles() {
+        int[] handles = new int[HotbarManagerAPI.HOTBAR_SIZE];
+        for (int slot = 0; slot < handles.length; slot++) {
+            handles[slot] = getHandle(slot);
+        }
+        return handles;
+    }
+
+    /**
+     * Converts this layout to an array of item type identifiers
+     * @param registry Registry used to resolve the handles
+     * @return New array of 9 item type identifiers, {@link HotbarManagerAPI#EMPTY_SLOT} for empty slots
+     */
+    public String[] toItemTypes(ItemTypeRegistry registry) {
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            String itemType = registry.getItemType(getHandle(slot));
+            hotbar[slot] = itemType != null ? itemType : HotbarManagerAPI.EMPTY_SLOT;
+        }
+        return hotbar;
+    }
+
+    /**
+     * Gets the packed word holding slots 0-4
+     * @return Packed low word
+     */
+    public long getPackedLow() {
+        return low;
+    }
+
+    /**
+     * Gets the packed word holding slots 5-8
+     * @return Packed high word
+     */
+    public long getPackedHigh() {
+        return high;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HotbarLayout)) {
+            return false;
+        }
+        HotbarLayout other = (HotbarLayout) o;
+        return low == other.low && high == other.high;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = low * 31L + high;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("HotbarLayout[");
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            if (slot > 0) {
+                builder.append(", ");
+            }
+            builder.append(getHandle(slot));
+        }
+        return builder.append(']').toString();
+    }
+
+    private static int shift(int slot) {
+        return (slot < SLOTS_IN_LOW_WORD ? slot : slot - SLOTS_IN_LOW_WORD) * BITS_PER_SLOT;
+    }
+
+    private static void checkSlot(int slot) {
+        if (slot < 0 || slot >= HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Slot must be between 0 and " + (HotbarManagerAPI.HOTBAR_SIZE - 1) + ", got " + slot);
+        }
+    }
+}
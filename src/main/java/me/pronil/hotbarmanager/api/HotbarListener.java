@@ -105,4 +105,23 @@ public interface HotbarListener {
     default boolean onItemRemovedFromHotbar(Player player, int slot, String itemType) {
         return true;
     }
+
+    /**
+     * Called once when several hotbar slots change in one operation, such as a preset
+     * load, a reset or a whole-hotbar write
+     *
+     * Listeners that override this method receive the whole change as a single diff
+     * and are not called with the matching per-slot events
+     * ({@link #onHotbarSlotChanged}, {@link #onItemAddedToHotbar},
+     * {@link #onItemRemovedFromHotbar}) nor with {@link #onPresetLoaded} and
+     * {@link #onHotbarReset} for that operation. Listeners that do not override it keep
+     * receiving the individual events.
+     * @param player The player whose hotbar was modified
+     * @param diff The layouts before and after the change and the changed slots
+     * @return true if the event should be allowed, false to cancel
+     * @since 1.6.0
+     */
+    default boolean onHotbarDiff(Player player, HotbarDiff diff) {
+        return true;
+    }
 }
@@ -1,11 +1,16 @@
 package me.pronil.hotbarmanager.api;
 
+import me.pronil.hotbarmanager.api.metrics.HotbarMetrics;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Main API interface for HotbarManager plugin
@@ -15,11 +20,21 @@ import java.util.concurrent.CompletableFuture;
  * management system.
  * 
  * @author pronil
- * @version 1.5.0
+ * @version 1.6.0
  * @since 1.5.0
  */
 public interface HotbarManagerAPI {
 
+    /**
+     * Number of slots in a player's hotbar
+     */
+    int HOTBAR_SIZE = 9;
+
+    /**
+     * Identifier used for hotbar slots that hold no item
+     */
+    String EMPTY_SLOT = "null";
+
     /**
      * Gets the plugin instance
      * @return The HotbarManager plugin instance
@@ -48,6 +63,58 @@ public interface HotbarManagerAPI {
      */
     String[] getPlayerHotbar(UUID uuid);
 
+    /**
+     * Gets a player's current hotbar as a packed layout
+     * @param player The player to get hotbar for
+     * @return Packed hotbar layout, with handles from {@link #getItemTypeRegistry()}
+     * @since 1.6.0
+     */
+    default HotbarLayout getPlayerHotbarLayout(Player player) {
+        return HotbarLayout.fromItemTypes(getPlayerHotbar(player), getItemTypeRegistry());
+    }
+
+    /**
+     * Gets a player's current hotbar as a packed layout by UUID
+     * @param uuid The player's UUID
+     * @return Packed hotbar layout, with handles from {@link #getItemTypeRegistry()}
+     * @since 1.6.0
+     */
+    default HotbarLayout getPlayerHotbarLayout(UUID uuid) {
+        return HotbarLayout.fromItemTypes(getPlayerHotbar(uuid), getItemTypeRegistry());
+    }
+
+    /**
+     * Gets a shared, immutable snapshot of a player's hotbar
+     *
+     * The snapshot's version only changes when the hotbar changes, so pollers can skip
+     * work while it stays the same. Implementations that serve snapshots from their own
+     * {@link HotbarSnapshotStore} return the same instance until the hotbar changes and
+     * do not allocate. The default implementation is not allocation-free: it reads the
+     * hotbar and packs a layout on every call, then compares them with the previous
+     * snapshot. Its store keeps the 1024 most recently queried players, so a player
+     * evicted from it gets a new version even if the hotbar did not change.
+     * @param player The player to get hotbar for
+     * @return The current hotbar snapshot
+     * @since 1.6.0
+     */
+    default HotbarSnapshot getPlayerHotbarSnapshot(Player player) {
+        String[] hotbar = getPlayerHotbar(player);
+        return DefaultApiState.of(this).getSnapshots()
+                .publish(player.getUniqueId(), HotbarLayout.fromItemTypes(hotbar, getItemTypeRegistry()), hotbar);
+    }
+
+    /**
+     * Gets a shared, immutable snapshot of a player's hotbar by UUID
+     * @param uuid The player's UUID
+     * @return The current hotbar snapshot
+     * @see #getPlayerHotbarSnapshot(Player)
+     * @since 1.6.0
+     */
+    default HotbarSnapshot getPlayerHotbarSnapshot(UUID uuid) {
+        String[] hotbar = getPlayerHotbar(uuid);
+        return DefaultApiState.of(this).getSnapshots().publish(uuid, HotbarLayout.fromItemTypes(hotbar, getItemTypeRegistry()), hotbar);
+    }
+
     /**
      * Sets a player's hotbar slot to a specific item type
      * @param player The player to modify
@@ -66,6 +133,100 @@ public interface HotbarManagerAPI {
      */
     CompletableFuture<Void> setPlayerHotbarSlot(UUID uuid, int slot, String itemType);
 
+    /**
+     * Sets a player's hotbar slot to a specific item type by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param slot Hotbar slot index (0-8)
+     * @param itemType Item type identifier
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbarSlot(UUID uuid, int slot, String itemType, Executor executor) {
+        return HotbarFutures.completeOn(setPlayerHotbarSlot(uuid, slot, itemType), executor);
+    }
+
+    /**
+     * Replaces all hotbar slots of a player in a single operation
+     * @param player The player to modify
+     * @param hotbar Array of 9 item type identifiers, null or {@link #EMPTY_SLOT} for empty slots
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbar(Player player, String[] hotbar) {
+        return setPlayerHotbar(player.getUniqueId(), hotbar);
+    }
+
+    /**
+     * Replaces all hotbar slots of a player in a single operation by UUID
+     *
+     * The whole array is validated before anything is changed, so an invalid hotbar
+     * completes the returned future exceptionally and leaves the hotbar untouched.
+     * Implementations persist the new hotbar once and dispatch listener events once.
+     * The default implementation falls back to one
+     * {@link #setPlayerHotbarSlot(UUID, int, String)} call per slot, that is 9 writes
+     * and 9 listener dispatches. These are independent, so if one of them fails or is
+     * cancelled the others still apply and the hotbar is left partly changed; the
+     * returned future then completes exceptionally.
+     * @param uuid The player's UUID
+     * @param hotbar Array of 9 item type identifiers, null or {@link #EMPTY_SLOT} for empty slots
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbar(UUID uuid, String[] hotbar) {
+        String invalid = HotbarValidation.validateHotbar(this, hotbar);
+        if (invalid != null) {
+            return HotbarFutures.failed(new IllegalArgumentException(invalid));
+        }
+
+        CompletableFuture<?>[] slots = new CompletableFuture<?>[HOTBAR_SIZE];
+        for (int slot = 0; slot < HOTBAR_SIZE; slot++) {
+            String itemType = hotbar[slot] == null ? EMPTY_SLOT : hotbar[slot];
+            slots[slot] = setPlayerHotbarSlot(uuid, slot, itemType);
+        }
+        return CompletableFuture.allOf(slots);
+    }
+
+    /**
+     * Replaces all hotbar slots of a player in a single operation by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param hotbar Array of 9 item type identifiers, null or {@link #EMPTY_SLOT} for empty slots
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbar(UUID uuid, String[] hotbar, Executor executor) {
+        return HotbarFutures.completeOn(setPlayerHotbar(uuid, hotbar), executor);
+    }
+
+    /**
+     * Replaces all hotbar slots of a player with a packed layout
+     * @param player The player to modify
+     * @param layout Packed hotbar layout, with handles from {@link #getItemTypeRegistry()}
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbar(Player player, HotbarLayout layout) {
+        return setPlayerHotbar(player, layout.toItemTypes(getItemTypeRegistry()));
+    }
+
+    /**
+     * Replaces all hotbar slots of a player with a packed layout by UUID
+     * @param uuid The player's UUID
+     * @param layout Packed hotbar layout, with handles from {@link #getItemTypeRegistry()}
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> setPlayerHotbar(UUID uuid, HotbarLayout layout) {
+        return setPlayerHotbar(uuid, layout.toItemTypes(getItemTypeRegistry()));
+    }
+
     /**
      * Resets a player's hotbar to default configuration
      * @param player The player to reset
@@ -80,6 +241,93 @@ public interface HotbarManagerAPI {
      */
     CompletableFuture<Void> resetPlayerHotbar(UUID uuid);
 
+    /**
+     * Resets a player's hotbar to default configuration by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> resetPlayerHotbar(UUID uuid, Executor executor) {
+        return HotbarFutures.completeOn(resetPlayerHotbar(uuid), executor);
+    }
+
+    // ===== BATCH OPERATIONS =====
+
+    /**
+     * Applies the same hotbar to several players in a single operation
+     *
+     * An invalid hotbar fails the whole batch before any player is touched.
+     * Implementations validate it once and group the storage writes of the whole batch
+     * into one transaction; the default implementation falls back to one
+     * {@link #setPlayerHotbar(UUID, String[])} call per player, each of which validates
+     * the hotbar again.
+     * @param uuids The UUIDs of the players to modify
+     * @param hotbar Array of 9 item type identifiers, null or {@link #EMPTY_SLOT} for empty slots
+     * @return CompletableFuture completing with whether the hotbar was applied, per player
+     * @since 1.6.0
+     */
+    default CompletableFuture<Map<UUID, Boolean>> setPlayerHotbars(Collection<UUID> uuids, String[] hotbar) {
+        String invalid = HotbarValidation.validateHotbar(this, hotbar);
+        if (invalid != null) {
+            return HotbarFutures.failed(new IllegalArgumentException(invalid));
+        }
+
+        Map<UUID, String[]> hotbars = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            hotbars.put(uuid, hotbar);
+        }
+        return setPlayerHotbars(hotbars);
+    }
+
+    /**
+     * Applies a separate hotbar to each of several players in a single operation
+     *
+     * Players whose hotbar fails validation are reported as false without affecting
+     * the rest of the batch.
+     * @param hotbars Array of 9 item type identifiers for each player's UUID
+     * @return CompletableFuture completing with whether the hotbar was applied, per player
+     * @since 1.6.0
+     */
+    default CompletableFuture<Map<UUID, Boolean>> setPlayerHotbars(Map<UUID, String[]> hotbars) {
+        Map<UUID, CompletableFuture<Void>> operations = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String[]> entry : hotbars.entrySet()) {
+            operations.put(entry.getKey(), setPlayerHotbar(entry.getKey(), entry.getValue()));
+        }
+        return HotbarFutures.collect(operations);
+    }
+
+    /**
+     * Resets the hotbars of several players to default configuration in a single operation
+     * @param uuids The UUIDs of the players to reset
+     * @return CompletableFuture completing with whether the hotbar was reset, per player
+     * @since 1.6.0
+     */
+    default CompletableFuture<Map<UUID, Boolean>> resetPlayerHotbars(Collection<UUID> uuids) {
+        Map<UUID, CompletableFuture<Void>> operations = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            operations.put(uuid, resetPlayerHotbar(uuid));
+        }
+        return HotbarFutures.collect(operations);
+    }
+
+    /**
+     * Gets a future that completes once a player's hotbar and presets are loaded
+     *
+     * Data is loaded asynchronously during pre-login, so for a joining player the future
+     * is usually complete already. Querying the player after it completes does not block
+     * on storage. The default implementation returns a completed future.
+     * @param uuid The player's UUID
+     * @return CompletableFuture that completes when the player's data is available
+     * @since 1.6.0
+     */
+    default CompletableFuture<Void> whenLoaded(UUID uuid) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     // ===== HOTBAR PRESETS =====
 
     /**
@@ -112,6 +360,21 @@ public interface HotbarManagerAPI {
      */
     CompletableFuture<Boolean> savePlayerPreset(UUID uuid, String presetName);
 
+    /**
+     * Saves a player's current hotbar as a preset by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Boolean> savePlayerPreset(UUID uuid, String presetName, Executor executor) {
+        return HotbarFutures.completeOn(savePlayerPreset(uuid, presetName), executor);
+    }
+
     /**
      * Loads a preset for a player
      * @param player The player to load preset for
@@ -128,6 +391,21 @@ public interface HotbarManagerAPI {
      */
     CompletableFuture<Boolean> loadPlayerPreset(UUID uuid, String presetName);
 
+    /**
+     * Loads a preset for a player by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset to load
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Boolean> loadPlayerPreset(UUID uuid, String presetName, Executor executor) {
+        return HotbarFutures.completeOn(loadPlayerPreset(uuid, presetName), executor);
+    }
+
     /**
      * Deletes a preset for a player
      * @param player The player to delete preset for
@@ -144,6 +422,21 @@ public interface HotbarManagerAPI {
      */
     CompletableFuture<Boolean> deletePlayerPreset(UUID uuid, String presetName);
 
+    /**
+     * Deletes a preset for a player by UUID, completing on an executor
+     *
+     * The returned future is completed on {@code executor}, so dependent stages that
+     * are not async run there as well.
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset to delete
+     * @param executor Executor completing the returned future
+     * @return CompletableFuture that completes when the operation is finished
+     * @since 1.6.0
+     */
+    default CompletableFuture<Boolean> deletePlayerPreset(UUID uuid, String presetName, Executor executor) {
+        return HotbarFutures.completeOn(deletePlayerPreset(uuid, presetName), executor);
+    }
+
     // ===== ITEM MANAGEMENT =====
 
     /**
@@ -163,23 +456,91 @@ public interface HotbarManagerAPI {
 
     /**
      * Checks if an item type is valid
+     *
+     * Implementations answer with a single hash lookup in their {@link ItemTypeRegistry},
+     * as {@code getItemTypeRegistry().isValid(itemType)} does.
      * @param itemType Item type identifier to check
      * @return true if the item type is valid, false otherwise
      */
     boolean isValidItemType(String itemType);
 
+    /**
+     * Gets the registry that maps item types to integer handles
+     *
+     * Implementations cache the registry and rebuild it when the configuration is
+     * reloaded. The default implementation builds the registry from
+     * {@link #getAvailableCategories()} once per {@link #getConfigurationGeneration()}
+     * and returns the cached instance until the generation changes.
+     * @return The current item type registry
+     * @since 1.6.0
+     */
+    default ItemTypeRegistry getItemTypeRegistry() {
+        return DefaultApiState.of(this).getItemTypeRegistry();
+    }
+
+    /**
+     * Gets the generation of the loaded configuration
+     *
+     * Implementations increment it on every configuration reload, which makes the
+     * default {@link #getItemTypeRegistry()} rebuild its cached registry. The default
+     * implementation always returns 0, so the registry is built only once.
+     * @return Generation number, increasing with every configuration reload
+     * @since 1.6.0
+     */
+    default long getConfigurationGeneration() {
+        return 0L;
+    }
+
+    /**
+     * Checks if an item type handle is valid
+     * @param handle Item type handle from {@link #getItemTypeRegistry()}
+     * @return true if the handle is valid, false otherwise
+     * @since 1.6.0
+     */
+    default boolean isValidItemType(int handle) {
+        return getItemTypeRegistry().isValid(handle);
+    }
+
+    /**
+     * Gets an ItemStack from an item type handle
+     * @param player The player to get the item for (for team colors, etc.)
+     * @param handle Item type handle from {@link #getItemTypeRegistry()}
+     * @return ItemStack representation of the item type, or null if the handle is invalid
+     * @since 1.6.0
+     */
+    default ItemStack getItemFromType(Player player, int handle) {
+        String itemType = getItemTypeRegistry().getItemType(handle);
+        return itemType != null ? getItemFromType(player, itemType) : null;
+    }
+
+    /**
+     * Gets an item type handle from an ItemStack
+     * @param itemStack The ItemStack to get the handle for
+     * @return Item type handle, or {@link ItemTypeRegistry#NONE} if not found
+     * @since 1.6.0
+     */
+    default int getItemTypeHandleFromStack(ItemStack itemStack) {
+        return getItemTypeRegistry().getHandle(getItemTypeFromStack(itemStack));
+    }
+
     // ===== CATEGORY MANAGEMENT =====
 
     /**
      * Gets all available item categories
-     * @return List of category names
+     *
+     * Implementations return a shared view, such as the one from
+     * {@link ItemTypeRegistry}, rather than a fresh list; callers must not modify it.
+     * @return Unmodifiable list of category names
      */
     List<String> getAvailableCategories();
 
     /**
      * Gets all items in a specific category
+     *
+     * Implementations return a shared view, such as the one from
+     * {@link ItemTypeRegistry}, rather than a fresh list; callers must not modify it.
      * @param categoryName Name of the category
-     * @return List of item type identifiers in the category
+     * @return Unmodifiable list of item type identifiers in the category
      */
     List<String> getCategoryItems(String categoryName);
 
@@ -190,6 +551,16 @@ public interface HotbarManagerAPI {
      */
     String getItemCategory(String itemType);
 
+    /**
+     * Gets the category of an item type handle
+     * @param handle Item type handle from {@link #getItemTypeRegistry()}
+     * @return Category name, or null if the handle is invalid
+     * @since 1.6.0
+     */
+    default String getItemCategory(int handle) {
+        return getItemTypeRegistry().getCategory(handle);
+    }
+
     // ===== GUI MANAGEMENT =====
 
     /**
@@ -246,6 +617,38 @@ public interface HotbarManagerAPI {
      */
     void registerHotbarListener(HotbarListener listener);
 
+    /**
+     * Registers a hotbar event listener for specific events only
+     *
+     * Listeners registered with {@link #registerHotbarListener(HotbarListener)} receive the
+     * events whose callbacks they override; this overload selects the events explicitly.
+     * Passing no events behaves like {@link #registerHotbarListener(HotbarListener)}.
+     * The default implementation registers the listener for all events.
+     * @param listener The listener to register
+     * @param events The events the listener should receive
+     * @since 1.6.0
+     */
+    default void registerHotbarListener(HotbarListener listener, HotbarEventType... events) {
+        registerHotbarListener(listener);
+    }
+
+    /**
+     * Registers an observe-only listener that is notified asynchronously
+     *
+     * Observers are called on a separate thread after an event has been allowed, and
+     * their return values are ignored, so they cannot cancel events and never slow down
+     * the server thread. Observers must only use thread-safe parts of the Bukkit API.
+     * Passing no events subscribes the observer to the callbacks it overrides. Observers
+     * are removed with {@link #unregisterHotbarListener(HotbarListener)}. The default
+     * implementation registers the observer as a regular, synchronous listener.
+     * @param observer The observer to register
+     * @param events The events the observer should receive
+     * @since 1.6.0
+     */
+    default void registerHotbarObserver(HotbarListener observer, HotbarEventType... events) {
+        registerHotbarListener(observer, events);
+    }
+
     /**
      * Unregisters a hotbar event listener
      * @param listener The listener to unregister
@@ -272,4 +675,18 @@ public interface HotbarManagerAPI {
      * @param message Message to log
      */
     void log(String level, String message);
+
+    /**
+     * Gets the plugin's runtime metrics
+     *
+     * Includes per-operation latency histograms, per-listener invocation counts and time,
+     * cache hit ratios and storage queue depths. Serve them to Prometheus with a
+     * {@link me.pronil.hotbarmanager.api.metrics.PrometheusExporter}. The default
+     * implementation returns {@link HotbarMetrics#DISABLED}, which records nothing.
+     * @return The metrics
+     * @since 1.6.0
+     */
+    default HotbarMetrics getMetrics() {
+        return HotbarMetrics.DISABLED;
+    }
 }
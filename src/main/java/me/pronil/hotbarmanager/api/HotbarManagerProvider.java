@@ -1,7 +1,20 @@
 package me.pronil.hotbarmanager.api;
 
 import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Provider class for accessing the HotbarManager API
@@ -18,35 +31,88 @@ import org.bukkit.plugin.Plugin;
  * }
  * </pre>
  * 
+ * Addons that may enable before HotbarManager can wait for it instead:
+ * <pre>
+ * HotbarManagerProvider.onAvailable(this).thenAccept(api -&gt; api.registerHotbarListener(this));
+ * </pre>
+ * 
+ * The API is looked up through Bukkit's {@link org.bukkit.plugin.ServicesManager} and
+ * cached until HotbarManager is disabled, so {@link #getAPI()} is safe and cheap to call
+ * from any thread.
+ * 
  * @author pronil
- * @version 1.5.0
+ * @version 1.6.0
  * @since 1.5.0
  */
 public class HotbarManagerProvider {
 
-    private static HotbarManagerAPI apiInstance;
     private static final String PLUGIN_NAME = "BedWars1058-HotbarManager";
 
+    private static final Object LOCK = new Object();
+    private static volatile Handle handle;
+    private static CompletableFuture<HotbarManagerAPI> availability = new CompletableFuture<>();
+    private static Plugin listenerOwner;
+
     /**
      * Gets the HotbarManager API instance
      * @return The API instance, or null if the plugin is not loaded
      */
     public static HotbarManagerAPI getAPI() {
-        if (apiInstance == null) {
-            Plugin plugin = Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
-            if (plugin != null) {
-                try {
-                    // Use reflection to get the API instance from the plugin
-                    Class<?> pluginClass = plugin.getClass();
-                    java.lang.reflect.Method getAPIMethod = pluginClass.getMethod("getAPI");
-                    apiInstance = (HotbarManagerAPI) getAPIMethod.invoke(plugin);
-                } catch (Exception e) {
-                    // Plugin doesn't support API or method not found
-                    return null;
-                }
+        Handle current = handle;
+        if (current != null && current.plugin.isEnabled()) {
+            return current.api;
+        }
+        current = lookup();
+        handle = current;
+        return current != null ? current.api : null;
+    }
+
+    /**
+     * Gets a future that completes once the API is available
+     *
+     * If HotbarManager is not enabled yet, {@code owner} is used to listen for it; the
+     * future then completes on the main thread while HotbarManager enables. When called
+     * off the main thread, the listener is registered by a task on the next tick. Every
+     * call returns its own future, so completing or cancelling it does not affect other
+     * callers.
+     * @param owner The calling plugin, owning the listener that waits for HotbarManager
+     * @return CompletableFuture with the API instance
+     * @since 1.6.0
+     */
+    public static CompletableFuture<HotbarManagerAPI> onAvailable(Plugin owner) {
+        HotbarManagerAPI api = getAPI();
+        synchronized (LOCK) {
+            if (api != null) {
+                availability.complete(api);
+            } else {
+                ensureListener(owner);
             }
+            return availability.thenApply(Function.identity());
+        }
+    }
+
+    /**
+     * Registers the API implementation; called by HotbarManager when it enables
+     * @param plugin The HotbarManager plugin
+     * @param api The API implementation
+     * @since 1.6.0
+     */
+    public static void register(Plugin plugin, HotbarManagerAPI api) {
+        Bukkit.getServicesManager().register(HotbarManagerAPI.class, api, plugin, ServicePriority.Normal);
+        handle = new Handle(api, plugin);
+        synchronized (LOCK) {
+            availability.complete(api);
         }
-        return apiInstance;
+    }
+
+    /**
+     * Unregisters the API implementation; called by HotbarManager when it disables
+     * @param api The API implementation
+     * @since 1.6.0
+     */
+    public static void unregister(HotbarManagerAPI api) {
+        Bukkit.getServicesManager().unregister(HotbarManagerAPI.class, api);
+        invalidate();
     }
 
     /**
@@ -63,7 +129,8 @@ public class HotbarManagerProvider {
      * @return The plugin instance, or null if not loaded
      */
     public static Plugin getPlugin() {
-        return Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
+        Handle current = handle;
+        return current != null ? current.plugin : Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
     }
 
     /**
@@ -71,7 +138,8 @@ public class HotbarManagerProvider {
      * @return true if the plugin is loaded, false otherwise
      */
     public static boolean isPluginLoaded() {
-        return getPlugin() != null && getPlugin().isEnabled();
+        Plugin plugin = getPlugin();
+        return plugin != null && plugin.isEnabled();
     }
 
     /**
@@ -82,4 +150,114 @@ public class HotbarManagerProvider {
         HotbarManagerAPI api = getAPI();
         return api != null ? api.getVersion() : null;
     }
+
+    private static Handle lookup() {
+        RegisteredServiceProvider<HotbarManagerAPI> registration =
+                Bukkit.getServicesManager().getRegistration(HotbarManagerAPI.class);
+        if (registration != null && registration.getPlugin().isEnabled()) {
+            return new Handle(registration.getProvider(), registration.getPlugin());
+        }
+
+        // HotbarManager versions before 1.6.0 only expose the API through getAPI()
+        Plugin plugin = Bukkit.getPluginManager().getPlugin(PLUGIN_NAME);
+        if (plugin == null || !plugin.isEnabled()) {
+            return null;
+        }
+        try {
+            Method getAPIMethod = plugin.getClass().getMethod("getAPI");
+            Object api = getAPIMethod.invoke(plugin);
+            return api instanceof HotbarManagerAPI ? new Handle((HotbarManagerAPI) api, plugin) : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Plugin doesn't support API or method not found
+            return null;
+        }
+    }
+
+    private static void invalidate() {
+        handle = null;
+        synchronized (LOCK) {
+            if (availability.isDone()) {
+                availability = new CompletableFuture<>();
+            }
+        }
+    }
+
+    private static void ensureListener(Plugin owner) {
+        if (listenerOwner != null && listenerOwner.isEnabled()) {
+            return;
+        }
+        listenerOwner = owner;
+        if (Bukkit.isPrimaryThread()) {
+            registerListener(owner);
+            return;
+        }
+        // The plugin manager's handler lists are not safe to modify off the main thread
+        try {
+            Bukkit.getScheduler().runTask(owner, () -> registerListener(owner));
+        } catch (RuntimeException e) {
+            listenerOwner = null;
+            throw e;
+        }
+    }
+
+    private static void registerListener(Plugin owner) {
+        Bukkit.getPluginManager().registerEvents(new LifecycleListener(), owner);
+        // HotbarManager may have enabled before the listener was registered
+        refresh();
+    }
+
+    private static void refresh() {
+        HotbarManagerAPI api = getAPI();
+        if (api != null) {
+            synchronized (LOCK) {
+                availability.complete(api);
+            }
+        }
+    }
+
+    private static final class Handle {
+
+        private final HotbarManagerAPI api;
+        private final Plugin plugin;
+
+        private Handle(HotbarManagerAPI api, Plugin plugin) {
+            this.api = api;
+            this.plugin = plugin;
+        }
+    }
+
+    /**
+     * Tracks HotbarManager enabling and disabling for the cached handle and {@link #onAvailable(Plugin)}
+     */
+    private static final class LifecycleListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onServiceRegister(ServiceRegisterEvent event) {
+            if (event.getProvider().getService() == HotbarManagerAPI.class) {
+                refresh();
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onServiceUnregister(ServiceUnregisterEvent event) {
+            if (event.getProvider().getService() == HotbarManagerAPI.class) {
+                invalidate();
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginEnable(PluginEnableEvent event) {
+            if (PLUGIN_NAME.equals(event.getPlugin().getName())) {
+                refresh();
+            }
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPluginDisable(PluginDisableEvent event) {
+            Handle current = handle;
+            if ((current != null && current.plugin == event.getPlugin()) || PLUGIN_NAME.equals(event.getPlugin().getName())) {
+                invalidate();
+            }
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package me.pronil.hotbarmanager.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable, versioned view of a player's hotbar
+ *
+ * Snapshots are shared between callers and never change. Every time a player's hotbar
+ * changes a new snapshot with a higher version is published, so callers that poll
+ * hotbars can remember the last version they processed and skip all work while it
+ * stays the same.
+ *
+ * Usage:
+ * <pre>
+ * HotbarSnapshot snapshot = api.getPlayerHotbarSnapshot(uuid);
+ * if (snapshot.hasChangedSince(lastVersion)) {
+ *     lastVersion = snapshot.getVersion();
+ *     // Refresh scoreboard, sync, etc.
+ * }
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class HotbarSnapshot {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final UUID uuid;
+    private final long version;
+    private final HotbarLayout layout;
+    private final List<String> itemTypes;
+
+    private HotbarSnapshot(UUID uuid, long version, HotbarLayout layout, String[] hotbar) {
+        this.uuid = uuid;
+        this.version = version;
+        this.layout = layout;
+        this.itemTypes = Collections.unmodifiableList(Arrays.asList(hotbar.clone()));
+    }
+
+    /**
+     * Creates a snapshot with a new version
+     *
+     * Versions are drawn from one global counter, so they increase monotonically for
+     * every player, even across data being unloaded and loaded again.
+     * @param uuid The player's UUID
+     * @param layout Packed hotbar layout
+     * @param hotbar Array of 9 item type identifiers matching the layout
+     * @return The new snapshot
+     */
+    public static HotbarSnapshot of(UUID uuid, HotbarLayout layout, String[] hotbar) {
+        if (hotbar.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Hotbar must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots, got " + hotbar.length);
+        }
+        return new HotbarSnapshot(uuid, VERSIONS.incrementAndGet(), layout, hotbar);
+    }
+
+    /**
+     * Gets the UUID of the player this snapshot belongs to
+     * @return The player's UUID
+     */
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * Gets the version of this snapshot
+     * @return Version number, higher for newer snapshots
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if this snapshot is newer than a previously seen version
+     * @param version The last version the caller processed
+     * @return true if the hotbar may have changed since that version, false otherwise
+     */
+    public boolean hasChangedSince(long version) {
+        return this.version != version;
+    }
+
+    /**
+     * Gets the packed hotbar layout
+     * @return Packed hotbar layout
+     */
+    public HotbarLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the item type in a slot
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type identifier
+     */
+    public String getItemType(int slot) {
+        return itemTypes.get(slot);
+    }
+
+    /**
+     * Gets the item types of all slots
+     * @return Shared, unmodifiable list of 9 item type identifiers
+     */
+    public List<String> getItemTypes() {
+        return itemTypes;
+    }
+
+    boolean hasItemTypes(String[] hotbar) {
+        if (hotbar.length != itemTypes.size()) {
+            return false;
+        }
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            if (!Objects.equals(itemTypes.get(slot), hotbar[slot])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "HotbarSnapshot[" + uuid + ", version=" + version + ", " + itemTypes + "]";
+    }
+}
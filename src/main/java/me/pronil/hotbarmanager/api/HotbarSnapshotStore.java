@@ -0,0 +1,88 @@
+package me.pronil.hotbarmanager.api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe holder of the latest {@link HotbarSnapshot} of each player
+ *
+ * Implementations of {@link HotbarManagerAPI} publish to the store from their write
+ * path and serve {@link HotbarManagerAPI#getPlayerHotbarSnapshot(UUID)} straight from
+ * it, so reads never allocate. Publishing an unchanged hotbar keeps the current
+ * snapshot and its version. Both the layout and the item type identifiers are
+ * compared, since item types unknown to the registry all pack to an empty slot.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class HotbarSnapshotStore {
+
+    private final Map<UUID, HotbarSnapshot> snapshots;
+
+    /**
+     * Creates an unbounded store, whose owner removes players when their data is unloaded
+     */
+    public HotbarSnapshotStore() {
+        this.snapshots = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a store that keeps at most {@code capacity} players, evicting the least
+     * recently used one when full
+     *
+     * An evicted player gets a new snapshot, and so a new version, on the next publish.
+     * @param capacity Maximum number of players kept
+     */
+    HotbarSnapshotStore(int capacity) {
+        this.snapshots = Collections.synchronizedMap(new LinkedHashMap<UUID, HotbarSnapshot>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, HotbarSnapshot> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * Gets the latest snapshot of a player
+     * @param uuid The player's UUID
+     * @return The latest snapshot, or null if none was published
+     */
+    public HotbarSnapshot get(UUID uuid) {
+        return snapshots.get(uuid);
+    }
+
+    /**
+     * Publishes a player's current hotbar
+     * @param uuid The player's UUID
+     * @param layout Packed hotbar layout
+     * @param hotbar Array of 9 item type identifiers matching the layout
+     * @return The current snapshot, which is the previous one if nothing changed
+     */
+    public HotbarSnapshot publish(UUID uuid, HotbarLayout layout, String[] hotbar) {
+        return snapshots.compute(uuid, (key, current) -> {
+            if (current != null && current.getLayout().equals(layout) && current.hasItemTypes(hotbar)) {
+                return current;
+            }
+            return HotbarSnapshot.of(key, layout, hotbar);
+        });
+    }
+
+    /**
+     * Removes the snapshot of a player, for example when their data is unloaded
+     * @param uuid The player's UUID
+     */
+    public void remove(UUID uuid) {
+        snapshots.remove(uuid);
+    }
+
+    /**
+     * Removes all snapshots, for example after a configuration reload invalidated all handles
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+}
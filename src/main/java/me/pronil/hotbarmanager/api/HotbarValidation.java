@@ -0,0 +1,36 @@
+package me.pronil.hotbarmanager.api;
+
+/**
+ * Validation helpers shared by the default methods of {@link HotbarManagerAPI}
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class HotbarValidation {
+
+    private HotbarValidation() {
+    }
+
+    /**
+     * Checks a whole hotbar array before it is applied
+     * @param api The API used to validate item types
+     * @param hotbar The hotbar to check
+     * @return A description of the first problem found, or null if the hotbar is valid
+     */
+    static String validateHotbar(HotbarManagerAPI api, String[] hotbar) {
+        if (hotbar == null) {
+            return "Hotbar must not be null";
+        }
+        if (hotbar.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            return "Hotbar must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots, got " + hotbar.length;
+        }
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            String itemType = hotbar[slot];
+            if (itemType != null && !HotbarManagerAPI.EMPTY_SLOT.equals(itemType) && !api.isValidItemType(itemType)) {
+                return "Invalid item type in slot " + slot + ": " + itemType;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,314 @@
+package me.pronil.hotbarmanager.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable registry of all valid item types
+ *
+ * Every item type identifier (for example {@code melee-category0}) is assigned a small
+ * integer handle. Handles index plain arrays, so validity and category lookups are
+ * constant time and never parse, hash or allocate strings. A registry describes one
+ * configuration generation: after the plugin reloads its configuration a new registry
+ * is built and handles from the old one must not be reused.
+ *
+ * The registry also serves as the category index: category and item names are
+ * interned, and the list views it returns are shared and unmodifiable, so callers can
+ * use them on hot paths without copying. The items of every category are kept in
+ * handle (configuration) order rather than sorted, because the selection GUI lays
+ * them out in that order; lookups by name go through hash maps and need no sorting.
+ *
+ * Usage:
+ * <pre>
+ * ItemTypeRegistry registry = api.getItemTypeRegistry();
+ * int sword = registry.getHandle("melee-category0");
+ * if (registry.isValid(sword)) {
+ *     String category = registry.getCategory(sword);
+ * }
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class ItemTypeRegistry {
+
+    /**
+     * Handle returned for unknown item types and empty slots
+     */
+    public static final int NONE = -1;
+
+    private final long generation;
+    private final String[] itemTypes;
+    private final int[] categoryIds;
+    private final String[] categories;
+    private final Map<String, Integer> handles;
+    private final Map<String, Integer> categoryLookup;
+    private final List<String> categoryView;
+    private final List<List<String>> categoryItemViews;
+
+    private ItemTypeRegistry(Builder builder) {
+        this.generation = builder.generation;
+        this.itemTypes = builder.itemTypes.toArray(new String[0]);
+        this.categories = builder.categories.toArray(new String[0]);
+        this.categoryIds = new int[itemTypes.length];
+        for (int handle = 0; handle < categoryIds.length; handle++) {
+            categoryIds[handle] = builder.itemCategoryIds.get(handle);
+        }
+        this.handles = new HashMap<>(builder.handles);
+        this.categoryLookup = new HashMap<>(builder.categoryLookup);
+        this.categoryView = Collections.unmodifiableList(Arrays.asList(categories));
+
+        int[] counts = new int[categories.length];
+        for (int categoryId : categoryIds) {
+            counts[categoryId]++;
+        }
+        String[][] itemsByCategory = new String[categories.length][];
+        for (int categoryId = 0; categoryId < categories.length; categoryId++) {
+            itemsByCategory[categoryId] = new String[counts[categoryId]];
+            counts[categoryId] = 0;
+        }
+        for (int handle = 0; handle < itemTypes.length; handle++) {
+            int categoryId = categoryIds[handle];
+            itemsByCategory[categoryId][counts[categoryId]++] = itemTypes[handle];
+        }
+        this.categoryItemViews = new ArrayList<>(categories.length);
+        for (String[] items : itemsByCategory) {
+            categoryItemViews.add(Collections.unmodifiableList(Arrays.asList(items)));
+        }
+    }
+
+    /**
+     * Creates a builder for a new registry
+     * @return A new, empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builds a registry from the categories currently exposed by an API instance
+     * @param api The API to read categories and items from
+     * @return A registry containing every item of every available category, tagged with
+     *         the API's {@link HotbarManagerAPI#getConfigurationGeneration() generation}
+     */
+    public static ItemTypeRegistry fromAPI(HotbarManagerAPI api) {
+        Builder builder = builder().generation(api.getConfigurationGeneration());
+        for (String category : api.getAvailableCategories()) {
+            for (String itemType : api.getCategoryItems(category)) {
+                builder.add(category, itemType);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the configuration generation this registry was built for
+     * @return Generation number, increasing with every configuration reload
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the number of registered item types
+     * @return Item type count; valid handles are 0 to size() - 1
+     */
+    public int size() {
+        return itemTypes.length;
+    }
+
+    /**
+     * Gets the handle of an item type
+     * @param itemType Item type identifier
+     * @return The handle, or {@link #NONE} if the item type is unknown or empty
+     */
+    public int getHandle(String itemType) {
+        if (itemType == null) {
+            return NONE;
+        }
+        Integer handle = handles.get(itemType);
+        return handle != null ? handle : NONE;
+    }
+
+    /**
+     * Checks if an item type is registered
+     * @param itemType Item type identifier to check
+     * @return true if the item type is valid, false otherwise
+     */
+    public boolean isValid(String itemType) {
+        return itemType != null && handles.containsKey(itemType);
+    }
+
+    /**
+     * Checks if a handle refers to a registered item type
+     * @param handle Item type handle
+     * @return true if the handle is valid, false otherwise
+     */
+    public boolean isValid(int handle) {
+        return handle >= 0 && handle < itemTypes.length;
+    }
+
+    /**
+     * Gets the item type identifier of a handle
+     * @param handle Item type handle
+     * @return Item type identifier, or null if the handle is invalid
+     */
+    public String getItemType(int handle) {
+        return isValid(handle) ? itemTypes[handle] : null;
+    }
+
+    /**
+     * Gets the category id of a handle
+     * @param handle Item type handle
+     * @return Category id, or {@link #NONE} if the handle is invalid
+     */
+    public int getCategoryId(int handle) {
+        return isValid(handle) ? categoryIds[handle] : NONE;
+    }
+
+    /**
+     * Gets the category name of a handle
+     * @param handle Item type handle
+     * @return Category name, or null if the handle is invalid
+     */
+    public String getCategory(int handle) {
+        return isValid(handle) ? categories[categoryIds[handle]] : null;
+    }
+
+    /**
+     * Gets the category name of an item type
+     * @param itemType Item type identifier
+     * @return Category name, or null if the item type is unknown
+     */
+    public String getCategory(String itemType) {
+        return getCategory(getHandle(itemType));
+    }
+
+    /**
+     * Gets all category names in registration order
+     * @return Shared, unmodifiable list of category names
+     */
+    public List<String> getCategories() {
+        return categoryView;
+    }
+
+    /**
+     * Gets the item types of a category in handle order
+     * @param category Category name
+     * @return Shared, unmodifiable list of item type identifiers, empty if the category is unknown
+     */
+    public List<String> getCategoryItems(String category) {
+        return getCategoryItems(getCategoryId(category));
+    }
+
+    /**
+     * Gets the item types of a category id in handle order
+     * @param categoryId Category id
+     * @return Shared, unmodifiable list of item type identifiers, empty if the id is invalid
+     */
+    public List<String> getCategoryItems(int categoryId) {
+        return categoryId >= 0 && categoryId < categoryItemViews.size()
+                ? categoryItemViews.get(categoryId)
+                : Collections.<String>emptyList();
+    }
+
+    /**
+     * Gets the number of registered categories
+     * @return Category count; valid category ids are 0 to getCategoryCount() - 1
+     */
+    public int getCategoryCount() {
+        return categories.length;
+    }
+
+    /**
+     * Gets the id of a category
+     * @param category Category name
+     * @return Category id, or {@link #NONE} if the category is unknown
+     */
+    public int getCategoryId(String category) {
+        if (category == null) {
+            return NONE;
+        }
+        Integer id = categoryLookup.get(category);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * Gets the name of a category id
+     * @param categoryId Category id
+     * @return Category name, or null if the id is invalid
+     */
+    public String getCategoryName(int categoryId) {
+        return categoryId >= 0 && categoryId < categories.length ? categories[categoryId] : null;
+    }
+
+    /**
+     * Builder for {@link ItemTypeRegistry}
+     *
+     * Handles and category ids are assigned in the order items and categories are added.
+     */
+    public static final class Builder {
+
+        private long generation;
+        private final List<String> itemTypes = new ArrayList<>();
+        private final List<Integer> itemCategoryIds = new ArrayList<>();
+        private final List<String> categories = new ArrayList<>();
+        private final Map<String, Integer> handles = new HashMap<>();
+        private final Map<String, Integer> categoryLookup = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the configuration generation of the registry
+         * @param generation Generation number
+         * @return This builder
+         */
+        public Builder generation(long generation) {
+            this.generation = generation;
+            return this;
+        }
+
+        /**
+         * Adds an item type to a category, creating the category if needed
+         * @param category Category name
+         * @param itemType Item type identifier
+         * @return This builder
+         * @throws IllegalArgumentException if the item type was already added
+         */
+        public Builder add(String category, String itemType) {
+            if (category == null || itemType == null) {
+                throw new IllegalArgumentException("Category and item type must not be null");
+            }
+            if (handles.containsKey(itemType)) {
+                throw new IllegalArgumentException("Duplicate item type: " + itemType);
+            }
+
+            Integer categoryId = categoryLookup.get(category);
+            if (categoryId == null) {
+                categoryId = categories.size();
+                categories.add(category.intern());
+                categoryLookup.put(category, categoryId);
+            }
+
+            String interned = itemType.intern();
+            handles.put(interned, itemTypes.size());
+            itemTypes.add(interned);
+            itemCategoryIds.add(categoryId);
+            return this;
+        }
+
+        /**
+         * Builds the registry
+         * @return A new immutable registry
+         */
+        public ItemTypeRegistry build() {
+            return new ItemTypeRegistry(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package me.pronil.hotbarmanager.api.cache;
+
+/**
+ * Immutable snapshot of a cache's counters
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    /**
+     * Creates a new statistics snapshot
+     * @param hits Number of lookups served from the cache
+     * @param misses Number of lookups that had to load or build the value
+     * @param evictions Number of entries removed to respect size or age limits
+     * @param size Number of entries currently cached
+     */
+    public CacheStats(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache
+     * @return Hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to load or build the value
+     * @return Miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of entries removed to respect size or age limits
+     * @return Eviction count
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the number of entries currently cached
+     * @return Entry count
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the total number of lookups
+     * @return Hits plus misses
+     */
+    public long getRequests() {
+        return hits + misses;
+    }
+
+    /**
+     * Gets the fraction of lookups served from the cache
+     * @return Hit ratio between 0 and 1, or 1 if there were no lookups
+     */
+    public double getHitRatio() {
+        long requests = getRequests();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size + "]";
+    }
+}
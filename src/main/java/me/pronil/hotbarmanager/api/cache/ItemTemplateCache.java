@@ -0,0 +1,138 @@
+package me.pronil.hotbarmanager.api.cache;
+
+import me.pronil.hotbarmanager.api.ItemTypeRegistry;
+import org.bukkit.DyeColor;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of prebuilt item stacks per item type and team colour
+ *
+ * Building an item from configuration (material, name, lore, enchantments, team colour)
+ * is far more expensive than copying a finished stack. This cache builds each
+ * combination of item type and team colour once, keeps the result as a private
+ * template and hands out clones. Templates live in a flat array indexed by item type
+ * handle and colour, so lookups never hash.
+ *
+ * The cache is tied to one {@link ItemTypeRegistry}; call
+ * {@link #invalidate(ItemTypeRegistry)} after the configuration is reloaded.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class ItemTemplateCache {
+
+    /**
+     * Builds the item stack for an item type
+     */
+    @FunctionalInterface
+    public interface ItemFactory {
+
+        /**
+         * Builds a new item stack
+         * @param itemType Item type identifier
+         * @param teamColor Team colour to apply, or null for the uncoloured variant
+         * @return The item stack, or null if the item type cannot be built
+         */
+        ItemStack create(String itemType, DyeColor teamColor);
+    }
+
+    private static final int VARIANTS = DyeColor.values().length + 1;
+
+    private final ItemFactory factory;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Templates templates;
+
+    /**
+     * Creates a new cache
+     * @param registry Registry of the current configuration
+     * @param factory Builds item stacks on cache misses
+     */
+    public ItemTemplateCache(ItemTypeRegistry registry, ItemFactory factory) {
+        this.factory = factory;
+        this.templates = new Templates(registry);
+    }
+
+    /**
+     * Gets a copy of the item for an item type
+     * @param itemType Item type identifier
+     * @param teamColor Team colour to apply, or null for the uncoloured variant
+     * @return A new copy of the item, or null if the item type is unknown
+     */
+    public ItemStack get(String itemType, DyeColor teamColor) {
+        return get(templates.registry.getHandle(itemType), teamColor);
+    }
+
+    /**
+     * Gets a copy of the item for an item type handle
+     * @param handle Item type handle from the cache's registry
+     * @param teamColor Team colour to apply, or null for the uncoloured variant
+     * @return A new copy of the item, or null if the handle is invalid
+     */
+    public ItemStack get(int handle, DyeColor teamColor) {
+        Templates current = templates;
+        if (!current.registry.isValid(handle)) {
+            return null;
+        }
+
+        int index = handle * VARIANTS + (teamColor == null ? 0 : teamColor.ordinal() + 1);
+        ItemStack template = current.stacks.get(index);
+        if (template != null) {
+            hits.increment();
+            return template.clone();
+        }
+
+        misses.increment();
+        ItemStack created = factory.create(current.registry.getItemType(handle), teamColor);
+        if (created == null) {
+            return null;
+        }
+        current.stacks.compareAndSet(index, null, created.clone());
+        return created;
+    }
+
+    /**
+     * Drops all templates and switches to a new registry, for example after a configuration reload
+     * @param registry Registry of the new configuration
+     */
+    public void invalidate(ItemTypeRegistry registry) {
+        templates = new Templates(registry);
+    }
+
+    /**
+     * Drops all templates while keeping the current registry
+     */
+    public void invalidateAll() {
+        invalidate(templates.registry);
+    }
+
+    /**
+     * Gets the cache's hit and miss counters
+     * @return Statistics snapshot
+     */
+    public CacheStats getStats() {
+        Templates current = templates;
+        int size = 0;
+        for (int i = 0; i < current.stacks.length(); i++) {
+            if (current.stacks.get(i) != null) {
+                size++;
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), 0L, size);
+    }
+
+    private static final class Templates {
+
+        private final ItemTypeRegistry registry;
+        private final AtomicReferenceArray<ItemStack> stacks;
+
+        private Templates(ItemTypeRegistry registry) {
+            this.registry = registry;
+            this.stacks = new AtomicReferenceArray<>(registry.size() * VARIANTS);
+        }
+    }
+}
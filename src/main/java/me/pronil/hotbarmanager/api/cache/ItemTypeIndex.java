@@ -0,0 +1,210 @@
+package me.pronil.hotbarmanager.api.cache;
+
+import me.pronil.hotbarmanager.api.ItemTypeRegistry;
+import org.bukkit.DyeColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Constant-time reverse lookup from item stacks to item types
+ *
+ * The index is built once per configuration from every item type in every team colour.
+ * Each built stack is reduced to a fingerprint of material, data value and display name,
+ * stored in an open-addressing table of primitive keys. Looking up a stack computes the
+ * same fingerprint and probes the table; stacks whose material is not used by any item
+ * type are rejected before their meta is even read. The display name is compared
+ * exactly on every hit, so a hash collision can never return the wrong item type.
+ *
+ * Reading the display name copies the stack's whole meta, so it is only read for
+ * materials that have at least one named item type. Stacks of other materials are
+ * identified by material and data value alone, which means a renamed copy of an
+ * unnamed hotbar item is still recognised as that item.
+ *
+ * Tools and weapons ignore their data value, since it holds wear rather than identity.
+ * Item types that share a fingerprint fall back to comparing full stacks with
+ * {@link ItemStack#isSimilar(ItemStack)}, at each candidate's durability for tools and
+ * weapons; this rare path copies a worn stack once.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class ItemTypeIndex {
+
+    private static final int EMPTY = -1;
+    private static final int AMBIGUOUS = -2;
+
+    private final ItemTypeRegistry registry;
+    private final boolean[] indexedMaterials;
+    private final boolean[] namedMaterials;
+    private final long[] keys;
+    private final int[] handles;
+    private final String[] displayNames;
+    private final int mask;
+    private final List<Candidate> ambiguous;
+
+    private ItemTypeIndex(ItemTypeRegistry registry, List<Candidate> candidates) {
+        this.registry = registry;
+        this.indexedMaterials = new boolean[Material.values().length];
+        this.namedMaterials = new boolean[indexedMaterials.length];
+
+        int capacity = Integer.highestOneBit(Math.max(4, candidates.size() * 2) - 1) << 1;
+        this.keys = new long[capacity];
+        this.handles = new int[capacity];
+        this.displayNames = new String[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(handles, EMPTY);
+
+        List<Candidate> collisions = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            indexedMaterials[candidate.template.getType().ordinal()] = true;
+            if (candidate.displayName != null) {
+                namedMaterials[candidate.template.getType().ordinal()] = true;
+            }
+            int slot = find(candidate.key, candidate.displayName);
+            if (handles[slot] == EMPTY) {
+                keys[slot] = candidate.key;
+                displayNames[slot] = candidate.displayName;
+                handles[slot] = candidate.handle;
+            } else if (handles[slot] != candidate.handle) {
+                handles[slot] = AMBIGUOUS;
+            }
+        }
+        for (Candidate candidate : candidates) {
+            if (handles[find(candidate.key, candidate.displayName)] == AMBIGUOUS) {
+                collisions.add(candidate);
+            }
+        }
+        this.ambiguous = collisions;
+    }
+
+    /**
+     * Builds an index for every item type of a registry in every team colour
+     * @param registry Registry of the current configuration
+     * @param factory Builds the item stacks handed out for each item type
+     * @return The new index
+     */
+    public static ItemTypeIndex build(ItemTypeRegistry registry, ItemTemplateCache.ItemFactory factory) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int handle = 0; handle < registry.size(); handle++) {
+            String itemType = registry.getItemType(handle);
+            addCandidate(candidates, handle, factory.create(itemType, null));
+            for (DyeColor color : DyeColor.values()) {
+                addCandidate(candidates, handle, factory.create(itemType, color));
+            }
+        }
+        return new ItemTypeIndex(registry, candidates);
+    }
+
+    /**
+     * Gets the registry this index was built from
+     * @return Item type registry
+     */
+    public ItemTypeRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Gets the item type handle of a stack
+     * @param itemStack The stack to identify
+     * @return Item type handle, or {@link ItemTypeRegistry#NONE} if the stack is not a hotbar item
+     */
+    public int getHandle(ItemStack itemStack) {
+        if (itemStack == null || !indexedMaterials[itemStack.getType().ordinal()]) {
+            return ItemTypeRegistry.NONE;
+        }
+
+        String displayName = namedMaterials[itemStack.getType().ordinal()] ? displayName(itemStack) : null;
+        int slot = find(fingerprint(itemStack, displayName), displayName);
+        int handle = handles[slot];
+        if (handle == AMBIGUOUS) {
+            return resolveAmbiguous(itemStack);
+        }
+        return handle == EMPTY ? ItemTypeRegistry.NONE : handle;
+    }
+
+    /**
+     * Gets the item type identifier of a stack
+     * @param itemStack The stack to identify
+     * @return Item type identifier, or null if the stack is not a hotbar item
+     */
+    public String getItemType(ItemStack itemStack) {
+        return registry.getItemType(getHandle(itemStack));
+    }
+
+    private int resolveAmbiguous(ItemStack itemStack) {
+        // Wear is not identity, so damageable stacks are compared at each candidate's durability
+        boolean damageable = itemStack.getType().getMaxDurability() > 0;
+        ItemStack probe = damageable ? itemStack.clone() : itemStack;
+        for (Candidate candidate : ambiguous) {
+            if (damageable) {
+                probe.setDurability(candidate.template.getDurability());
+            }
+            if (candidate.template.isSimilar(probe)) {
+                return candidate.handle;
+            }
+        }
+        return ItemTypeRegistry.NONE;
+    }
+
+    private int find(long key, String displayName) {
+        int slot = (int) mix(key) & mask;
+        while (handles[slot] != EMPTY && (keys[slot] != key || !equal(displayNames[slot], displayName))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static void addCandidate(List<Candidate> candidates, int handle, ItemStack template) {
+        if (template == null) {
+            return;
+        }
+        String displayName = displayName(template);
+        candidates.add(new Candidate(handle, template, fingerprint(template, displayName), displayName));
+    }
+
+    private static long fingerprint(ItemStack itemStack, String displayName) {
+        Material material = itemStack.getType();
+        long data = material.getMaxDurability() > 0 ? 0L : itemStack.getDurability() & 0xFFFFL;
+        long nameHash = displayName == null ? 0L : displayName.hashCode() & 0xFFFFFFFFL;
+        return ((long) material.ordinal() << 48) | (data << 32) | nameHash;
+    }
+
+    private static String displayName(ItemStack itemStack) {
+        if (!itemStack.hasItemMeta()) {
+            return null;
+        }
+        ItemMeta meta = itemStack.getItemMeta();
+        return meta.hasDisplayName() ? meta.getDisplayName() : null;
+    }
+
+    private static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return key ^ (key >>> 33);
+    }
+
+    private static boolean equal(String a, String b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static final class Candidate {
+
+        private final int handle;
+        private final ItemStack template;
+        private final long key;
+        private final String displayName;
+
+        private Candidate(int handle, ItemStack template, long key, String displayName) {
+            this.handle = handle;
+            this.template = template;
+            this.key = key;
+            this.displayName = displayName;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package me.pronil.hotbarmanager.api.cache;
+
+import me.pronil.hotbarmanager.api.storage.PlayerHotbarData;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of stored player data
+ *
+ * Online players are pinned (usually from the join and quit listeners) and stay cached
+ * regardless of size and age. Everyone else, typically offline players looked up through
+ * the {@code UUID} overloads, lives in a least-recently-used list limited both in size
+ * and in time since the data was loaded, so repeated lookups are served from memory
+ * while the heap stays bounded. Players without stored data are cached as well, so
+ * looking up a new player does not go to storage again.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class PlayerDataCache {
+
+    /**
+     * Loads player data on cache misses
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Loads the data of a player
+         * @param uuid The player's UUID
+         * @return The stored data, or null if the player has none
+         * @throws IOException if the data cannot be read
+         */
+        PlayerHotbarData load(UUID uuid) throws IOException;
+    }
+
+    /**
+     * Marks a player known to have no stored data
+     */
+    private static final PlayerHotbarData ABSENT = PlayerHotbarData.empty(new UUID(0L, 0L));
+
+    private final int maximumSize;
+    private final long expireAfterNanos;
+    private final Loader loader;
+
+    private final Map<UUID, PlayerHotbarData> pinned = new HashMap<>();
+    private final Set<UUID> pins = new HashSet<>();
+    private final LinkedHashMap<UUID, Entry> unpinned = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<UUID, CompletableFuture<PlayerHotbarData>> loading = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a new cache
+     * @param maximumSize Maximum number of unpinned players kept
+     * @param expireAfter Time after loading an unpinned player's data is dropped
+     * @param unit Unit of {@code expireAfter}
+     * @param loader Loads player data on cache misses
+     */
+    public PlayerDataCache(int maximumSize, long expireAfter, TimeUnit unit, Loader loader) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.expireAfterNanos = unit.toNanos(expireAfter);
+        this.loader = loader;
+    }
+
+    /**
+     * Gets a player's data, loading it on a miss
+     *
+     * The loader is called without holding the cache's lock, so a slow load does not
+     * block lookups of other players. Concurrent misses for the same player wait for a
+     * single load. Data put while the load runs takes precedence over the loaded data,
+     * and invalidating the player while it runs keeps the loaded data out of the cache.
+     * @param uuid The player's UUID
+     * @return The data, or null if the player has none
+     * @throws IOException if the data has to be loaded and cannot be read
+     */
+    public PlayerHotbarData get(UUID uuid) throws IOException {
+        CompletableFuture<PlayerHotbarData> load;
+        CompletableFuture<PlayerHotbarData> inFlight;
+        synchronized (this) {
+            PlayerHotbarData cached = lookup(uuid, System.nanoTime());
+            if (cached != null) {
+                hits++;
+                return present(cached);
+            }
+            misses++;
+            inFlight = loading.get(uuid);
+            load = inFlight != null ? inFlight : new CompletableFuture<>();
+            if (inFlight == null) {
+                loading.put(uuid, load);
+            }
+        }
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        PlayerHotbarData loaded;
+        try {
+            loaded = loader.load(uuid);
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                loading.remove(uuid, load);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+        synchronized (this) {
+            // An invalidation during the load removed it from the in-flight loads
+            boolean current = loading.remove(uuid, load);
+            // Data put while loading is newer than what was just read
+            PlayerHotbarData stored = lookup(uuid, System.nanoTime());
+            if (stored != null) {
+                loaded = present(stored);
+            } else if (current) {
+                store(uuid, loaded != null ? loaded : ABSENT);
+            }
+        }
+        load.complete(loaded);
+        return loaded;
+    }
+
+    /**
+     * Gets a player's data if it is cached
+     * @param uuid The player's UUID
+     * @return The data, or null if it is not cached or the player has none
+     */
+    public synchronized PlayerHotbarData getIfPresent(UUID uuid) {
+        PlayerHotbarData data = lookup(uuid, System.nanoTime());
+        if (data != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return present(data);
+    }
+
+    /**
+     * Checks if a player's data, or the fact that they have none, is cached
+     * @param uuid The player's UUID
+     * @return true if {@link #get(UUID)} would not call the loader
+     */
+    public synchronized boolean contains(UUID uuid) {
+        return lookup(uuid, System.nanoTime()) != null;
+    }
+
+    /**
+     * Stores a player's data, for example after it was modified and saved
+     * @param data The player's current data
+     */
+    public synchronized void put(PlayerHotbarData data) {
+        store(data.getUniqueId(), data);
+    }
+
+    /**
+     * Removes a player's data, keeping the player pinned if they are
+     * @param uuid The player's UUID
+     */
+    public synchronized void invalidate(UUID uuid) {
+        pinned.remove(uuid);
+        unpinned.remove(uuid);
+        loading.remove(uuid);
+    }
+
+    /**
+     * Removes all cached data, keeping the pins
+     */
+    public synchronized void invalidateAll() {
+        pinned.clear();
+        unpinned.clear();
+        loading.clear();
+    }
+
+    /**
+     * Pins a player, usually when they join, so their data is never evicted
+     * @param uuid The player's UUID
+     */
+    public synchronized void pin(UUID uuid) {
+        if (pins.add(uuid)) {
+            Entry entry = unpinned.remove(uuid);
+            if (entry != null) {
+                pinned.put(uuid, entry.data);
+            }
+        }
+    }
+
+    /**
+     * Unpins a player, usually when they quit, so their data becomes evictable again
+     * @param uuid The player's UUID
+     */
+    public synchronized void unpin(UUID uuid) {
+        if (pins.remove(uuid)) {
+            PlayerHotbarData data = pinned.remove(uuid);
+            if (data != null) {
+                unpinned.put(uuid, new Entry(data, System.nanoTime()));
+                trim();
+            }
+        }
+    }
+
+    /**
+     * Checks if a player is pinned
+     * @param uuid The player's UUID
+     * @return true if the player is pinned
+     */
+    public synchronized boolean isPinned(UUID uuid) {
+        return pins.contains(uuid);
+    }
+
+    /**
+     * Drops expired entries; lookups also drop the entries they find expired
+     */
+    public synchronized void cleanUp() {
+        long now = System.nanoTime();
+        for (Iterator<Entry> it = unpinned.values().iterator(); it.hasNext(); ) {
+            if (it.next().isExpired(now, expireAfterNanos)) {
+                it.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of cached players, pinned and unpinned
+     * @return Entry count
+     */
+    public synchronized int size() {
+        return pinned.size() + unpinned.size();
+    }
+
+    /**
+     * Gets the cache's hit, miss and eviction counters
+     * @return Statistics snapshot
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits, misses, evictions, size());
+    }
+
+    private static PlayerHotbarData await(CompletableFuture<PlayerHotbarData> load) throws IOException {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    private PlayerHotbarData lookup(UUID uuid, long now) {
+        PlayerHotbarData data = pinned.get(uuid);
+        if (data != null) {
+            return data;
+        }
+        Entry entry = unpinned.get(uuid);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now, expireAfterNanos)) {
+            unpinned.remove(uuid);
+            evictions++;
+            return null;
+        }
+        return entry.data;
+    }
+
+    private static PlayerHotbarData present(PlayerHotbarData data) {
+        return data == ABSENT ? null : data;
+    }
+
+    private void store(UUID uuid, PlayerHotbarData data) {
+        if (pins.contains(uuid)) {
+            pinned.put(uuid, data);
+            return;
+        }
+        unpinned.put(uuid, new Entry(data, System.nanoTime()));
+        trim();
+    }
+
+    private void trim() {
+        Iterator<Entry> it = unpinned.values().iterator();
+        while (unpinned.size() > maximumSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry {
+
+        private final PlayerHotbarData data;
+        private final long loadedAt;
+
+        private Entry(PlayerHotbarData data, long loadedAt) {
+            this.data = data;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long expireAfterNanos) {
+            return now - loadedAt >= expireAfterNanos;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package me.pronil.hotbarmanager.api.cache;
+
+import me.pronil.hotbarmanager.api.storage.PlayerHotbarData;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads player data into a {@link PlayerDataCache} before the player joins
+ *
+ * {@link AsyncPlayerPreLoginEvent} already runs off the main thread, so the data is
+ * read and decoded there and the join finds it in the cache instead of stalling the
+ * main thread on storage. Players are pinned from join until they quit. Between
+ * pre-login and join the prefetched data is an ordinary cache entry, so a connection
+ * that never reaches join leaves nothing pinned behind; if the entry is evicted in
+ * that window, or pre-login loading fails, the player is let in and the data is loaded
+ * again on first use.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class PlayerDataPrefetcher implements Listener {
+
+    private final PlayerDataCache cache;
+    private final Executor executor;
+    private final Logger logger;
+    private final ConcurrentMap<UUID, CompletableFuture<PlayerHotbarData>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new prefetcher
+     * @param cache Cache the data is loaded into
+     * @param executor Executor for loads started outside of pre-login
+     * @param logger Logger for failed loads
+     */
+    public PlayerDataPrefetcher(PlayerDataCache cache, Executor executor, Logger logger) {
+        this.cache = cache;
+        this.executor = executor;
+        this.logger = logger;
+    }
+
+    /**
+     * Gets a future that completes once a player's data is cached
+     *
+     * Returns a completed future if the data is already cached, joins a load that is
+     * in progress, or starts a new one on the executor.
+     * @param uuid The player's UUID
+     * @return Future of the player's data, which is null if the player has none
+     */
+    public CompletableFuture<PlayerHotbarData> whenLoaded(UUID uuid) {
+        CompletableFuture<PlayerHotbarData> pending = loading.get(uuid);
+        if (pending != null) {
+            return pending;
+        }
+        if (cache.contains(uuid)) {
+            return CompletableFuture.completedFuture(cache.getIfPresent(uuid));
+        }
+        return prefetch(uuid);
+    }
+
+    /**
+     * Starts loading a player's data on the executor
+     * @param uuid The player's UUID
+     * @return Future of the player's data, shared with a load already in progress
+     */
+    public CompletableFuture<PlayerHotbarData> prefetch(UUID uuid) {
+        CompletableFuture<PlayerHotbarData> future = new CompletableFuture<>();
+        CompletableFuture<PlayerHotbarData> existing = loading.putIfAbsent(uuid, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> load(uuid, future));
+        } catch (RuntimeException e) {
+            loading.remove(uuid, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Checks if a player's data is currently being loaded
+     * @param uuid The player's UUID
+     * @return true if a load is in progress
+     */
+    public boolean isLoading(UUID uuid) {
+        return loading.containsKey(uuid);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        UUID uuid = event.getUniqueId();
+        CompletableFuture<PlayerHotbarData> future = new CompletableFuture<>();
+        CompletableFuture<PlayerHotbarData> existing = loading.putIfAbsent(uuid, future);
+        if (existing != null) {
+            future = existing;
+        } else {
+            load(uuid, future);
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            logger.log(Level.WARNING, "Could not prefetch hotbar data of " + event.getName() + " (" + uuid + ")", e.getCause());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        cache.pin(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        cache.unpin(event.getPlayer().getUniqueId());
+    }
+
+    private void load(UUID uuid, CompletableFuture<PlayerHotbarData> future) {
+        try {
+            future.complete(cache.get(uuid));
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            loading.remove(uuid, future);
+        }
+    }
+}
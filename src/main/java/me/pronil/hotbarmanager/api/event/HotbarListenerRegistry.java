@@ -0,0 +1,866 @@
+package me.pronil.hotbarmanager.api.event;
+
+import me.pronil.hotbarmanager.api.HotbarDiff;
+import me.pronil.hotbarmanager.api.HotbarEventType;
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import me.pronil.hotbarmanager.api.metrics.HotbarMetrics;
+import me.pronil.hotbarmanager.api.metrics.ListenerStats;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatch engine for {@link HotbarListener} events
+ *
+ * Every listener is subscribed to a set of {@link HotbarEventType}s, detected from the
+ * callbacks it overrides unless given explicitly. The registry keeps a precomputed
+ * listener array per event type, rebuilt on every (un)registration, so firing an event
+ * only visits interested listeners and an event nobody listens to costs one array read.
+ *
+ * Every {@code fire} method returns false as soon as a listener cancels the event.
+ * Exceptions thrown by a listener are logged and treated as allowing the event.
+ *
+ * Listeners registered as observers never block the caller: once the synchronous
+ * listeners have allowed an event, it is queued in a bounded {@link ObserverRingBuffer}
+ * and delivered on a separate thread, ignoring the observers' return values. When the
+ * queue is full the configured {@link ObserverOverflowPolicy} applies, and discarded
+ * events are counted. Observers must only use thread-safe parts of the Bukkit API.
+ *
+ * When {@linkplain #setMetrics(HotbarMetrics) metrics} are enabled, every callback is
+ * timed and counted per listener class, on the server thread and the observer thread alike.
+ * With a {@linkplain #setSlowListenerBudget(long, TimeUnit, int) slow listener budget},
+ * synchronous listeners that take too long are reported and can be demoted to observers.
+ *
+ * Coalesced changes are fired with {@link #fireHotbarDiff(Player, HotbarDiff)}. Listeners
+ * subscribed to {@link HotbarEventType#HOTBAR_DIFF} receive the diff once; all other
+ * listeners receive it expanded into the equivalent per-slot and preset/reset events.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class HotbarListenerRegistry {
+
+    /**
+     * Default capacity of the observer queue
+     */
+    public static final int DEFAULT_OBSERVER_CAPACITY = 8192;
+
+    /**
+     * Minimum time between two warnings about the same slow listener
+     */
+    public static final long SLOW_LISTENER_WARNING_INTERVAL_MILLIS = 30_000L;
+
+    /**
+     * Time window in which a listener must exceed its budget the configured number of
+     * times to be demoted
+     */
+    public static final long SLOW_LISTENER_WINDOW_MILLIS = 60_000L;
+
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+    private static final int EVENT_COUNT = HotbarEventType.values().length;
+
+    private final Logger logger;
+    private final Map<HotbarListener, Subscription> subscriptions = new LinkedHashMap<>();
+    private final ObserverDispatcher observerDispatcher;
+    private volatile Index index = new Index(new LinkedHashMap<>());
+    private HotbarMetrics metrics = HotbarMetrics.DISABLED;
+    private long budgetNanos;
+    private int demoteAfter;
+
+    /**
+     * Creates a new registry with the default observer queue
+     * @param logger Logger used to report failing listeners
+     */
+    public HotbarListenerRegistry(Logger logger) {
+        this(logger, DEFAULT_OBSERVER_CAPACITY, ObserverOverflowPolicy.DROP_OLDEST);
+    }
+
+    /**
+     * Creates a new registry
+     * @param logger Logger used to report failing listeners
+     * @param observerCapacity Capacity of the observer queue, rounded up to a power of two
+     * @param overflowPolicy What to do with observer events when the queue is full
+     */
+    public HotbarListenerRegistry(Logger logger, int observerCapacity, ObserverOverflowPolicy overflowPolicy) {
+        this.logger = logger;
+        this.observerDispatcher = new ObserverDispatcher(observerCapacity, overflowPolicy, this::deliverToObservers,
+                "HotbarManager Observer Dispatcher");
+    }
+
+    /**
+     * Registers a listener for the events whose callbacks it overrides
+     * @param listener The listener to register
+     */
+    public void register(HotbarListener listener) {
+        register(listener, HotbarEventType.detect(listener));
+    }
+
+    /**
+     * Registers a listener for a specific set of events, replacing any previous registration
+     * @param listener The listener to register
+     * @param events The events the listener should receive
+     */
+    public void register(HotbarListener listener, Collection<HotbarEventType> events) {
+        subscribe(listener, events, false);
+    }
+
+    /**
+     * Registers an observer for the events whose callbacks it overrides
+     * @param observer The observer to register
+     */
+    public void registerObserver(HotbarListener observer) {
+        registerObserver(observer, HotbarEventType.detect(observer));
+    }
+
+    /**
+     * Registers an observer for a specific set of events, replacing any previous registration
+     *
+     * Observers receive events asynchronously after the synchronous listeners have allowed
+     * them, and their return values are ignored.
+     * @param observer The observer to register
+     * @param events The events the observer should receive
+     */
+    public void registerObserver(HotbarListener observer, Collection<HotbarEventType> events) {
+        subscribe(observer, events, true);
+    }
+
+    /**
+     * Unregisters a listener or observer from all events
+     * @param listener The listener to unregister
+     * @return true if the listener was registered, false otherwise
+     */
+    public synchronized boolean unregister(HotbarListener listener) {
+        if (subscriptions.remove(listener) == null) {
+            return false;
+        }
+        index = new Index(subscriptions);
+        return true;
+    }
+
+    /**
+     * Starts recording invocation counts and time per listener class
+     *
+     * Also reports the observer queue depth as {@code "observer_events"}.
+     * @param metrics The metrics to record into, or {@link HotbarMetrics#DISABLED} to stop timing
+     */
+    public synchronized void setMetrics(HotbarMetrics metrics) {
+        this.metrics = metrics;
+        metrics.registerQueue("observer_events", observerDispatcher::getQueuedEventCount);
+        resubscribeAll();
+    }
+
+    /**
+     * Sets the time a synchronous listener may spend handling one event
+     *
+     * A listener over budget is logged with the plugin that provides it, at most once per
+     * {@link #SLOW_LISTENER_WARNING_INTERVAL_MILLIS} per listener. If {@code demoteAfter}
+     * is positive, a listener that exceeded the budget that many times within
+     * {@link #SLOW_LISTENER_WINDOW_MILLIS} is demoted to an observer: it then receives
+     * its events asynchronously and can no longer cancel them. Occasional slow calls,
+     * such as those during a garbage collection pause, never add up to a demotion.
+     * Registering the listener again restores it. Observers are never timed against the budget.
+     * @param budget Time per callback, 0 to disable the watchdog
+     * @param unit Unit of {@code budget}
+     * @param demoteAfter Number of slow callbacks within the window after which a listener
+     *                    is demoted, 0 to never demote
+     */
+    public synchronized void setSlowListenerBudget(long budget, TimeUnit unit, int demoteAfter) {
+        this.budgetNanos = unit.toNanos(Math.max(0L, budget));
+        this.demoteAfter = Math.max(0, demoteAfter);
+        resubscribeAll();
+    }
+
+    /**
+     * Checks if a listener was demoted to an observer for exceeding its budget
+     * @param listener The listener to check
+     * @return true if the listener is currently demoted, false otherwise
+     */
+    public synchronized boolean isDemoted(HotbarListener listener) {
+        Subscription subscription = subscriptions.get(listener);
+        return subscription != null && subscription.demoted;
+    }
+
+    /**
+     * Unregisters all listeners and observers
+     */
+    public synchronized void clear() {
+        subscriptions.clear();
+        index = new Index(subscriptions);
+    }
+
+    /**
+     * Stops asynchronous observer delivery after flushing queued events
+     *
+     * Called when the plugin is disabled; events published afterwards are dropped.
+     */
+    public void shutdown() {
+        observerDispatcher.shutdown();
+    }
+
+    /**
+     * Checks if any listener or observer would receive an event, so callers can skip preparing it
+     * @param type The event type
+     * @return true if at least one listener or observer would receive the event, false otherwise
+     */
+    public boolean hasListeners(HotbarEventType type) {
+        return index.interested[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of listeners subscribed to an event
+     * @param type The event type
+     * @return Listener count
+     */
+    public int getListenerCount(HotbarEventType type) {
+        return index.listeners[type.ordinal()].length;
+    }
+
+    /**
+     * Gets the number of observers subscribed to an event
+     * @param type The event type
+     * @return Observer count
+     */
+    public int getObserverCount(HotbarEventType type) {
+        return index.observers[type.ordinal()].length;
+    }
+
+    /**
+     * Gets the number of observer events discarded because the queue was full
+     * @return Dropped event count since the registry was created
+     */
+    public long getDroppedObserverEventCount() {
+        return observerDispatcher.getDroppedEventCount();
+    }
+
+    /**
+     * Gets the number of observer events waiting for delivery
+     * @return Approximate queue length
+     */
+    public int getQueuedObserverEventCount() {
+        return observerDispatcher.getQueuedEventCount();
+    }
+
+    /**
+     * Fires {@link HotbarListener#onHotbarSlotChanged(Player, int, String, String)}
+     * @param player The player whose hotbar was modified
+     * @param slot The slot that was changed (0-8)
+     * @param oldItemType The previous item type in the slot
+     * @param newItemType The new item type in the slot
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireHotbarSlotChanged(Player player, int slot, String oldItemType, String newItemType) {
+        Index current = index;
+        if (!callHotbarSlotChanged(current.listeners[HotbarEventType.HOTBAR_SLOT_CHANGED.ordinal()], true, player, slot, oldItemType, newItemType)) {
+            return false;
+        }
+        publish(current, HotbarEventType.HOTBAR_SLOT_CHANGED, player, slot, oldItemType, newItemType);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onHotbarReset(Player)}
+     * @param player The player whose hotbar was reset
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireHotbarReset(Player player) {
+        Index current = index;
+        if (!callHotbarReset(current.listeners[HotbarEventType.HOTBAR_RESET.ordinal()], true, player)) {
+            return false;
+        }
+        publish(current, HotbarEventType.HOTBAR_RESET, player, -1, null, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onPresetSaved(Player, String)}
+     * @param player The player who saved the preset
+     * @param presetName The name of the preset that was saved
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean firePresetSaved(Player player, String presetName) {
+        Index current = index;
+        if (!callPresetSaved(current.listeners[HotbarEventType.PRESET_SAVED.ordinal()], true, player, presetName)) {
+            return false;
+        }
+        publish(current, HotbarEventType.PRESET_SAVED, player, -1, presetName, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onPresetLoaded(Player, String)}
+     * @param player The player who loaded the preset
+     * @param presetName The name of the preset that was loaded
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean firePresetLoaded(Player player, String presetName) {
+        Index current = index;
+        if (!callPresetLoaded(current.listeners[HotbarEventType.PRESET_LOADED.ordinal()], true, player, presetName)) {
+            return false;
+        }
+        publish(current, HotbarEventType.PRESET_LOADED, player, -1, presetName, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onPresetDeleted(Player, String)}
+     * @param player The player who deleted the preset
+     * @param presetName The name of the preset that was deleted
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean firePresetDeleted(Player player, String presetName) {
+        Index current = index;
+        if (!callPresetDeleted(current.listeners[HotbarEventType.PRESET_DELETED.ordinal()], true, player, presetName)) {
+            return false;
+        }
+        publish(current, HotbarEventType.PRESET_DELETED, player, -1, presetName, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onManagerGUIOpened(Player)}
+     * @param player The player who opened the GUI
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireManagerGUIOpened(Player player) {
+        Index current = index;
+        if (!callManagerGUIOpened(current.listeners[HotbarEventType.MANAGER_GUI_OPENED.ordinal()], true, player)) {
+            return false;
+        }
+        publish(current, HotbarEventType.MANAGER_GUI_OPENED, player, -1, null, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onSelectionGUIOpened(Player, String)}
+     * @param player The player who opened the GUI
+     * @param itemToSelect The item type being selected
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireSelectionGUIOpened(Player player, String itemToSelect) {
+        Index current = index;
+        if (!callSelectionGUIOpened(current.listeners[HotbarEventType.SELECTION_GUI_OPENED.ordinal()], true, player, itemToSelect)) {
+            return false;
+        }
+        publish(current, HotbarEventType.SELECTION_GUI_OPENED, player, -1, itemToSelect, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onItemAddedToHotbar(Player, int, String)}
+     * @param player The player whose hotbar was modified
+     * @param slot The slot where the item was added (0-8)
+     * @param itemType The item type that was added
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireItemAddedToHotbar(Player player, int slot, String itemType) {
+        Index current = index;
+        if (!callItemAddedToHotbar(current.listeners[HotbarEventType.ITEM_ADDED_TO_HOTBAR.ordinal()], true, player, slot, itemType)) {
+            return false;
+        }
+        publish(current, HotbarEventType.ITEM_ADDED_TO_HOTBAR, player, slot, itemType, null);
+        return true;
+    }
+
+    /**
+     * Fires {@link HotbarListener#onItemRemovedFromHotbar(Player, int, String)}
+     * @param player The player whose hotbar was modified
+     * @param slot The slot where the item was removed (0-8)
+     * @param itemType The item type that was removed
+     * @return true if the event should be allowed, false if a listener cancelled it
+     */
+    public boolean fireItemRemovedFromHotbar(Player player, int slot, String itemType) {
+        Index current = index;
+        if (!callItemRemovedFromHotbar(current.listeners[HotbarEventType.ITEM_REMOVED_FROM_HOTBAR.ordinal()], true, player, slot, itemType)) {
+            return false;
+        }
+        publish(current, HotbarEventType.ITEM_REMOVED_FROM_HOTBAR, player, slot, itemType, null);
+        return true;
+    }
+
+    /**
+     * Fires a coalesced change
+     *
+     * Listeners subscribed to {@link HotbarEventType#HOTBAR_DIFF} receive
+     * {@link HotbarListener#onHotbarDiff(Player, HotbarDiff)} once. All other listeners
+     * receive the equivalent slot change, item removed and item added events for every
+     * changed slot, followed by the preset loaded or hotbar reset event matching the
+     * diff's cause.
+     * @param player The player whose hotbar was modified
+     * @param diff The coalesced change
+     * @return true if the change should be allowed, false if a listener cancelled it
+     */
+    public boolean fireHotbarDiff(Player player, HotbarDiff diff) {
+        Index current = index;
+        if (!callHotbarDiff(current.listeners[HotbarEventType.HOTBAR_DIFF.ordinal()], true, player, diff)) {
+            return false;
+        }
+        if (current.expandsDiffToListeners && !expandDiff(current.expandedListeners, true, player, diff)) {
+            return false;
+        }
+        if (current.observers[HotbarEventType.HOTBAR_DIFF.ordinal()].length > 0 || current.expandsDiffToObservers) {
+            observerDispatcher.publish(new ObservedEvent(HotbarEventType.HOTBAR_DIFF, player, -1, null, null, diff));
+        }
+        return true;
+    }
+
+    private void publish(Index current, HotbarEventType type, Player player, int slot, String first, String second) {
+        if (current.observers[type.ordinal()].length > 0) {
+            observerDispatcher.publish(new ObservedEvent(type, player, slot, first, second, null));
+        }
+    }
+
+    private void deliverToObservers(ObservedEvent event) {
+        Index current = index;
+        Subscription[] observers = current.observers[event.type.ordinal()];
+        switch (event.type) {
+            case HOTBAR_SLOT_CHANGED:
+                callHotbarSlotChanged(observers, false, event.player, event.slot, event.first, event.second);
+                break;
+            case HOTBAR_RESET:
+                callHotbarReset(observers, false, event.player);
+                break;
+            case PRESET_SAVED:
+                callPresetSaved(observers, false, event.player, event.first);
+                break;
+            case PRESET_LOADED:
+                callPresetLoaded(observers, false, event.player, event.first);
+                break;
+            case PRESET_DELETED:
+                callPresetDeleted(observers, false, event.player, event.first);
+                break;
+            case MANAGER_GUI_OPENED:
+                callManagerGUIOpened(observers, false, event.player);
+                break;
+            case SELECTION_GUI_OPENED:
+                callSelectionGUIOpened(observers, false, event.player, event.first);
+                break;
+            case ITEM_ADDED_TO_HOTBAR:
+                callItemAddedToHotbar(observers, false, event.player, event.slot, event.first);
+                break;
+            case ITEM_REMOVED_FROM_HOTBAR:
+                callItemRemovedFromHotbar(observers, false, event.player, event.slot, event.first);
+                break;
+            case HOTBAR_DIFF:
+                callHotbarDiff(observers, false, event.player, event.diff);
+                if (current.expandsDiffToObservers) {
+                    expandDiff(current.expandedObservers, false, event.player, event.diff);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean expandDiff(Subscription[][] byEvent, boolean cancellable, Player player, HotbarDiff diff) {
+        Subscription[] slotChanged = byEvent[HotbarEventType.HOTBAR_SLOT_CHANGED.ordinal()];
+        Subscription[] itemRemoved = byEvent[HotbarEventType.ITEM_REMOVED_FROM_HOTBAR.ordinal()];
+        Subscription[] itemAdded = byEvent[HotbarEventType.ITEM_ADDED_TO_HOTBAR.ordinal()];
+
+        if (slotChanged.length > 0 || itemRemoved.length > 0 || itemAdded.length > 0) {
+            for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+                if (!diff.isSlotChanged(slot)) {
+                    continue;
+                }
+                String oldItemType = diff.getOldItemType(slot);
+                String newItemType = diff.getNewItemType(slot);
+                if (!callHotbarSlotChanged(slotChanged, cancellable, player, slot, oldItemType, newItemType)) {
+                    return false;
+                }
+                if (!HotbarManagerAPI.EMPTY_SLOT.equals(oldItemType)
+                        && !callItemRemovedFromHotbar(itemRemoved, cancellable, player, slot, oldItemType)) {
+                    return false;
+                }
+                if (!HotbarManagerAPI.EMPTY_SLOT.equals(newItemType)
+                        && !callItemAddedToHotbar(itemAdded, cancellable, player, slot, newItemType)) {
+                    return false;
+                }
+            }
+        }
+
+        if (diff.getCause() == HotbarDiff.Cause.PRESET_LOAD) {
+            return callPresetLoaded(byEvent[HotbarEventType.PRESET_LOADED.ordinal()], cancellable, player, diff.getPresetName());
+        }
+        if (diff.getCause() == HotbarDiff.Cause.RESET) {
+            return callHotbarReset(byEvent[HotbarEventType.HOTBAR_RESET.ordinal()], cancellable, player);
+        }
+        return true;
+    }
+
+    private boolean callHotbarSlotChanged(Subscription[] subscriptions, boolean cancellable, Player player, int slot, String oldItemType, String newItemType) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onHotbarSlotChanged(player, slot, oldItemType, newItemType);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.HOTBAR_SLOT_CHANGED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.HOTBAR_SLOT_CHANGED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callHotbarReset(Subscription[] subscriptions, boolean cancellable, Player player) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onHotbarReset(player);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.HOTBAR_RESET, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.HOTBAR_RESET, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callPresetSaved(Subscription[] subscriptions, boolean cancellable, Player player, String presetName) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onPresetSaved(player, presetName);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.PRESET_SAVED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.PRESET_SAVED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callPresetLoaded(Subscription[] subscriptions, boolean cancellable, Player player, String presetName) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onPresetLoaded(player, presetName);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.PRESET_LOADED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.PRESET_LOADED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callPresetDeleted(Subscription[] subscriptions, boolean cancellable, Player player, String presetName) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onPresetDeleted(player, presetName);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.PRESET_DELETED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.PRESET_DELETED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callManagerGUIOpened(Subscription[] subscriptions, boolean cancellable, Player player) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onManagerGUIOpened(player);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.MANAGER_GUI_OPENED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.MANAGER_GUI_OPENED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callSelectionGUIOpened(Subscription[] subscriptions, boolean cancellable, Player player, String itemToSelect) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onSelectionGUIOpened(player, itemToSelect);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.SELECTION_GUI_OPENED, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.SELECTION_GUI_OPENED, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callItemAddedToHotbar(Subscription[] subscriptions, boolean cancellable, Player player, int slot, String itemType) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onItemAddedToHotbar(player, slot, itemType);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.ITEM_ADDED_TO_HOTBAR, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.ITEM_ADDED_TO_HOTBAR, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callItemRemovedFromHotbar(Subscription[] subscriptions, boolean cancellable, Player player, int slot, String itemType) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onItemRemovedFromHotbar(player, slot, itemType);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.ITEM_REMOVED_FROM_HOTBAR, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.ITEM_REMOVED_FROM_HOTBAR, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callHotbarDiff(Subscription[] subscriptions, boolean cancellable, Player player, HotbarDiff diff) {
+        for (Subscription subscription : subscriptions) {
+            long start = subscription.timed ? System.nanoTime() : 0L;
+            boolean allowed;
+            try {
+                allowed = subscription.listener.onHotbarDiff(player, diff);
+            } catch (RuntimeException e) {
+                reportFailure(subscription.listener, HotbarEventType.HOTBAR_DIFF, e);
+                allowed = true;
+            }
+            stopTimer(subscription, HotbarEventType.HOTBAR_DIFF, start);
+            if (!allowed && cancellable) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void subscribe(HotbarListener listener, Collection<HotbarEventType> events, boolean observer) {
+        Set<HotbarEventType> subscribed = EnumSet.noneOf(HotbarEventType.class);
+        subscribed.addAll(events);
+        subscriptions.put(listener, newSubscription(listener, subscribed, observer, false));
+        index = new Index(subscriptions);
+    }
+
+    private Subscription newSubscription(HotbarListener listener, Set<HotbarEventType> events, boolean observer, boolean demoted) {
+        return new Subscription(listener, events, observer, demoted, metrics.getListenerStats(listener),
+                observer ? 0L : budgetNanos, observer ? 0 : demoteAfter);
+    }
+
+    private void resubscribeAll() {
+        for (Map.Entry<HotbarListener, Subscription> entry : subscriptions.entrySet()) {
+            Subscription subscription = entry.getValue();
+            Subscription replacement = newSubscription(subscription.listener, subscription.events, subscription.observer, subscription.demoted);
+            replacement.owner = subscription.owner;
+            entry.setValue(replacement);
+        }
+        index = new Index(subscriptions);
+    }
+
+    private void stopTimer(Subscription subscription, HotbarEventType type, long start) {
+        if (!subscription.timed) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (subscription.stats != null) {
+            subscription.stats.record(elapsed);
+        }
+        if (subscription.budgetNanos > 0 && elapsed > subscription.budgetNanos) {
+            reportSlow(subscription, type, elapsed);
+        }
+    }
+
+    private void reportSlow(Subscription subscription, HotbarEventType type, long elapsed) {
+        int offences = subscription.offences.incrementAndGet();
+        long now = System.nanoTime();
+        boolean demote = subscription.recordSlowCall(now);
+        long lastWarning = subscription.lastWarningNanos;
+        if (!demote && offences > 1 && now - lastWarning < TimeUnit.MILLISECONDS.toNanos(SLOW_LISTENER_WARNING_INTERVAL_MILLIS)) {
+            return;
+        }
+        subscription.lastWarningNanos = now;
+        String message = String.format(Locale.ROOT, "Hotbar listener %s of plugin %s took %.2f ms to handle %s, over its budget of %.2f ms (%d slow calls)",
+                subscription.listener.getClass().getName(), subscription.getOwner(), elapsed / 1e6, type.getMethodName(),
+                subscription.budgetNanos / 1e6, offences);
+        if (demote) {
+            message += "; it now receives events asynchronously and can no longer cancel them";
+            demote(subscription);
+        }
+        logger.warning(message);
+    }
+
+    private synchronized void demote(Subscription subscription) {
+        if (subscriptions.get(subscription.listener) != subscription) {
+            return;
+        }
+        Subscription demoted = newSubscription(subscription.listener, subscription.events, true, true);
+        demoted.owner = subscription.owner;
+        subscriptions.put(subscription.listener, demoted);
+        index = new Index(subscriptions);
+    }
+
+    private void reportFailure(HotbarListener listener, HotbarEventType type, RuntimeException e) {
+        logger.log(Level.WARNING, "Hotbar listener " + listener.getClass().getName() + " failed to handle " + type.getMethodName(), e);
+    }
+
+    private static final class Subscription {
+
+        private final HotbarListener listener;
+        private final Set<HotbarEventType> events;
+        private final boolean observer;
+        private final boolean demoted;
+        private final ListenerStats stats;
+        private final long budgetNanos;
+        private final boolean timed;
+        private final AtomicInteger offences = new AtomicInteger();
+        private final long[] slowCalls;
+        private int nextSlowCall;
+        private int slowCallCount;
+        private volatile long lastWarningNanos;
+        private volatile String owner;
+
+        private Subscription(HotbarListener listener, Set<HotbarEventType> events, boolean observer, boolean demoted,
+                             ListenerStats stats, long budgetNanos, int demoteAfter) {
+            this.listener = listener;
+            this.events = events;
+            this.observer = observer;
+            this.demoted = demoted;
+            this.stats = stats;
+            this.budgetNanos = budgetNanos;
+            this.timed = stats != null || budgetNanos > 0;
+            this.slowCalls = new long[demoteAfter];
+        }
+
+        /**
+         * Remembers a slow call in a ring of the last {@code demoteAfter} slow calls
+         * @param now Time of the call
+         * @return true if the ring is full and spans no more than the window
+         */
+        private synchronized boolean recordSlowCall(long now) {
+            if (slowCalls.length == 0) {
+                return false;
+            }
+            slowCalls[nextSlowCall] = now;
+            nextSlowCall = (nextSlowCall + 1) % slowCalls.length;
+            slowCallCount = Math.min(slowCallCount + 1, slowCalls.length);
+            // once the ring is full, the next slot to overwrite holds the oldest remembered call
+            return slowCallCount == slowCalls.length
+                    && now - slowCalls[nextSlowCall] <= TimeUnit.MILLISECONDS.toNanos(SLOW_LISTENER_WINDOW_MILLIS);
+        }
+
+        private String getOwner() {
+            if (owner == null) {
+                String name;
+                try {
+                    Plugin plugin = JavaPlugin.getProvidingPlugin(listener.getClass());
+                    name = plugin != null ? plugin.getName() : "unknown";
+                } catch (RuntimeException e) {
+                    // not loaded by a plugin class loader
+                    name = "unknown";
+                }
+                owner = name;
+            }
+            return owner;
+        }
+    }
+
+    /**
+     * Immutable per-event listener arrays, replaced as a whole on every (un)registration
+     */
+    private static final class Index {
+
+        private final Subscription[][] listeners;
+        private final Subscription[][] observers;
+        private final Subscription[][] expandedListeners;
+        private final Subscription[][] expandedObservers;
+        private final boolean expandsDiffToListeners;
+        private final boolean expandsDiffToObservers;
+        private final boolean[] interested = new boolean[EVENT_COUNT];
+
+        private Index(Map<HotbarListener, Subscription> subscriptions) {
+            this.listeners = build(subscriptions, false, false);
+            this.observers = build(subscriptions, true, false);
+            this.expandedListeners = build(subscriptions, false, true);
+            this.expandedObservers = build(subscriptions, true, true);
+            this.expandsDiffToListeners = expandsDiff(expandedListeners);
+            this.expandsDiffToObservers = expandsDiff(expandedObservers);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                interested[i] = listeners[i].length > 0 || observers[i].length > 0;
+            }
+            int diff = HotbarEventType.HOTBAR_DIFF.ordinal();
+            interested[diff] = interested[diff] || expandsDiffToListeners || expandsDiffToObservers;
+        }
+
+        private static Subscription[][] build(Map<HotbarListener, Subscription> subscriptions, boolean observers, boolean withoutDiff) {
+            Subscription[][] byEvent = new Subscription[EVENT_COUNT][];
+            for (HotbarEventType type : HotbarEventType.values()) {
+                int count = 0;
+                Subscription[] matching = new Subscription[subscriptions.size()];
+                for (Subscription subscription : subscriptions.values()) {
+                    if (subscription.observer != observers || !subscription.events.contains(type)) {
+                        continue;
+                    }
+                    if (withoutDiff && subscription.events.contains(HotbarEventType.HOTBAR_DIFF)) {
+                        continue;
+                    }
+                    matching[count++] = subscription;
+                }
+                byEvent[type.ordinal()] = count == 0 ? NO_SUBSCRIPTIONS : Arrays.copyOf(matching, count);
+            }
+            return byEvent;
+        }
+
+        private static boolean expandsDiff(Subscription[][] byEvent) {
+            return byEvent[HotbarEventType.HOTBAR_SLOT_CHANGED.ordinal()].length > 0
+                    || byEvent[HotbarEventType.ITEM_ADDED_TO_HOTBAR.ordinal()].length > 0
+                    || byEvent[HotbarEventType.ITEM_REMOVED_FROM_HOTBAR.ordinal()].length > 0
+                    || byEvent[HotbarEventType.PRESET_LOADED.ordinal()].length > 0
+                    || byEvent[HotbarEventType.HOTBAR_RESET.ordinal()].length > 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package me.pronil.hotbarmanager.api.event;
+
+import me.pronil.hotbarmanager.api.HotbarDiff;
+import me.pronil.hotbarmanager.api.HotbarEventType;
+import org.bukkit.entity.Player;
+
+/**
+ * Queued copy of an event on its way to asynchronous observers
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class ObservedEvent {
+
+    final HotbarEventType type;
+    final Player player;
+    final int slot;
+    final String first;
+    final String second;
+    final HotbarDiff diff;
+
+    ObservedEvent(HotbarEventType type, Player player, int slot, String first, String second, HotbarDiff diff) {
+        this.type = type;
+        this.player = player;
+        this.slot = slot;
+        this.first = first;
+        this.second = second;
+        this.diff = diff;
+    }
+}
@@ -0,0 +1,127 @@
+package me.pronil.hotbarmanager.api.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Background thread that drains an {@link ObserverRingBuffer} and delivers its events
+ *
+ * The thread is started on the first published event and parks while the buffer is
+ * empty. Producers only pay for an unpark when the consumer is actually waiting.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class ObserverDispatcher implements Runnable {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
+    private final ObserverRingBuffer<ObservedEvent> buffer;
+    private final ObserverOverflowPolicy overflowPolicy;
+    private final Consumer<ObservedEvent> sink;
+    private final String threadName;
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private volatile Thread thread;
+    private volatile boolean waiting;
+    private volatile boolean running = true;
+
+    ObserverDispatcher(int capacity, ObserverOverflowPolicy overflowPolicy, Consumer<ObservedEvent> sink, String threadName) {
+        this.buffer = new ObserverRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sink = sink;
+        this.threadName = threadName;
+    }
+
+    /**
+     * Queues an event for asynchronous delivery, applying the overflow policy if the buffer is full
+     * @param event The event to queue
+     */
+    void publish(ObservedEvent event) {
+        if (!running) {
+            droppedEvents.incrementAndGet();
+            return;
+        }
+        ensureStarted();
+
+        while (!buffer.offer(event)) {
+            if (overflowPolicy == ObserverOverflowPolicy.DROP_NEWEST) {
+                droppedEvents.incrementAndGet();
+                return;
+            }
+            if (overflowPolicy == ObserverOverflowPolicy.CALLER_RUNS) {
+                sink.accept(event);
+                return;
+            }
+            if (buffer.poll() != null) {
+                droppedEvents.incrementAndGet();
+            }
+        }
+
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+
+    int getQueuedEventCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops the dispatcher thread after delivering all queued events
+     */
+    void shutdown() {
+        running = false;
+        Thread current = thread;
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            ObservedEvent event = buffer.poll();
+            if (event != null) {
+                sink.accept(event);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+
+            waiting = true;
+            if (buffer.size() == 0 && running) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+            }
+            waiting = false;
+        }
+    }
+
+    private void ensureStarted() {
+        if (thread != null) {
+            return;
+        }
+        synchronized (this) {
+            if (thread == null) {
+                Thread created = new Thread(this, threadName);
+                created.setDaemon(true);
+                created.start();
+                thread = created;
+            }
+        }
+    }
+}
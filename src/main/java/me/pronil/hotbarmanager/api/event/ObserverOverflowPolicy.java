@@ -0,0 +1,26 @@
+package me.pronil.hotbarmanager.api.event;
+
+/**
+ * What happens to an observer event when the observer queue is full
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public enum ObserverOverflowPolicy {
+
+    /**
+     * Discard the new event
+     */
+    DROP_NEWEST,
+
+    /**
+     * Discard the oldest queued event to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /**
+     * Deliver the new event synchronously on the publishing thread
+     */
+    CALLER_RUNS
+}
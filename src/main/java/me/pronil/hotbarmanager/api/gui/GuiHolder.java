@@ -0,0 +1,87 @@
+package me.pronil.hotbarmanager.api.gui;
+
+import org.bukkit.DyeColor;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.UUID;
+
+/**
+ * Holder of inventories created by a {@link GuiTemplateCache}
+ *
+ * Identifies the page, team colour and template an open inventory was rendered from, so
+ * click handlers and updates can map inventory slots back to hotbar slots.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class GuiHolder implements InventoryHolder {
+
+    private final UUID viewer;
+    private final GuiPage page;
+    private final DyeColor teamColor;
+    private final GuiTemplate template;
+    private Inventory inventory;
+
+    GuiHolder(UUID viewer, GuiPage page, DyeColor teamColor, GuiTemplate template) {
+        this.viewer = viewer;
+        this.page = page;
+        this.teamColor = teamColor;
+        this.template = template;
+    }
+
+    /**
+     * Gets the GUI holder of an inventory
+     * @param inventory The inventory, may be null
+     * @return The holder, or null if the inventory is not a HotbarManager GUI
+     */
+    public static GuiHolder of(Inventory inventory) {
+        if (inventory == null) {
+            return null;
+        }
+        InventoryHolder holder = inventory.getHolder();
+        return holder instanceof GuiHolder ? (GuiHolder) holder : null;
+    }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Gets the player the inventory was rendered for
+     * @return The player's UUID
+     */
+    public UUID getViewer() {
+        return viewer;
+    }
+
+    /**
+     * Gets the page shown by the inventory
+     * @return The page
+     */
+    public GuiPage getPage() {
+        return page;
+    }
+
+    /**
+     * Gets the team colour the inventory was rendered with
+     * @return The team colour, or null for the uncoloured variant
+     */
+    public DyeColor getTeamColor() {
+        return teamColor;
+    }
+
+    /**
+     * Gets the template the inventory was rendered from
+     * @return The template
+     */
+    public GuiTemplate getTemplate() {
+        return template;
+    }
+}
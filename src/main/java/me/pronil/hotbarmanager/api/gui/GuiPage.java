@@ -0,0 +1,75 @@
+package me.pronil.hotbarmanager.api.gui;
+
+/**
+ * Identifies one page of a HotbarManager GUI
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class GuiPage {
+
+    private final GuiType type;
+    private final String name;
+
+    private GuiPage(GuiType type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Gets a page of the manager GUI
+     * @param page Page index, starting at 0
+     * @return The page
+     */
+    public static GuiPage manager(int page) {
+        return new GuiPage(GuiType.MANAGER, Integer.toString(page));
+    }
+
+    /**
+     * Gets the selection GUI of a category
+     * @param category Category name
+     * @return The page
+     */
+    public static GuiPage selection(String category) {
+        return new GuiPage(GuiType.SELECTION, category);
+    }
+
+    /**
+     * Gets the GUI this page belongs to
+     * @return The GUI type
+     */
+    public GuiType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the page's name within its GUI
+     * @return The page index for the manager GUI, the category for the selection GUI
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GuiPage)) {
+            return false;
+        }
+        GuiPage other = (GuiPage) o;
+        return type == other.type && name.equals(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode() * 31 + name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GuiPage[" + type + " " + name + "]";
+    }
+}
@@ -0,0 +1,117 @@
+package me.pronil.hotbarmanager.api.gui;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+
+/**
+ * The static part of a GUI page: title, category items, glass panes and decoration
+ *
+ * A template also records which inventory slots show the player's hotbar, so the
+ * player-specific overlay can be applied on every open without rebuilding anything
+ * else. Templates are immutable and shared between all players; the stacks they hold
+ * are private copies that are only shared read-only through {@link #render(ItemStack[])}.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class GuiTemplate {
+
+    /**
+     * Marks a hotbar slot that is not shown on the page
+     */
+    public static final int NOT_SHOWN = -1;
+
+    private final String title;
+    private final ItemStack[] contents;
+    private final int[] hotbarSlots;
+
+    /**
+     * Creates a template
+     * @param title Inventory title
+     * @param contents Static inventory contents, 9 to 54 slots in whole rows; entries may be null
+     * @param hotbarSlots Inventory slot showing each of the 9 hotbar slots, or {@link #NOT_SHOWN}
+     */
+    public GuiTemplate(String title, ItemStack[] contents, int[] hotbarSlots) {
+        if (contents.length == 0 || contents.length > 54 || contents.length % 9 != 0) {
+            throw new IllegalArgumentException("GUI size must be 9 to 54 slots in whole rows, got " + contents.length);
+        }
+        if (hotbarSlots.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Expected " + HotbarManagerAPI.HOTBAR_SIZE + " hotbar slots, got " + hotbarSlots.length);
+        }
+        for (int slot : hotbarSlots) {
+            if (slot != NOT_SHOWN && (slot < 0 || slot >= contents.length)) {
+                throw new IllegalArgumentException("Hotbar slot mapped outside the inventory: " + slot);
+            }
+        }
+        this.title = title;
+        this.contents = new ItemStack[contents.length];
+        for (int i = 0; i < contents.length; i++) {
+            this.contents[i] = contents[i] != null ? contents[i].clone() : null;
+        }
+        this.hotbarSlots = hotbarSlots.clone();
+    }
+
+    /**
+     * Gets the inventory title
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the inventory size
+     * @return Number of slots
+     */
+    public int getSize() {
+        return contents.length;
+    }
+
+    /**
+     * Gets the inventory slot that shows a hotbar slot
+     * @param hotbarSlot Hotbar slot (0-8)
+     * @return Inventory slot, or {@link #NOT_SHOWN}
+     */
+    public int getInventorySlot(int hotbarSlot) {
+        return hotbarSlots[hotbarSlot];
+    }
+
+    /**
+     * Gets a copy of the static item in a slot
+     * @param slot Inventory slot
+     * @return A new copy of the item, or null if the slot is empty
+     */
+    public ItemStack getItem(int slot) {
+        ItemStack item = contents[slot];
+        return item != null ? item.clone() : null;
+    }
+
+    ItemStack getStaticItem(int slot) {
+        return contents[slot];
+    }
+
+    /**
+     * Builds the contents for one player by laying their hotbar over the static contents
+     *
+     * The returned array shares the template's stacks, which is safe when it is passed
+     * to {@link org.bukkit.inventory.Inventory#setContents(ItemStack[])}, since the
+     * server copies every stack into the inventory. Callers must not modify the stacks.
+     * @param hotbarItems The player's 9 hotbar items; null entries keep the static item,
+     *                    such as a glass pane for an empty slot
+     * @return The contents to show
+     */
+    public ItemStack[] render(ItemStack[] hotbarItems) {
+        ItemStack[] rendered = Arrays.copyOf(contents, contents.length);
+        int slots = Math.min(hotbarItems.length, hotbarSlots.length);
+        for (int hotbarSlot = 0; hotbarSlot < slots; hotbarSlot++) {
+            int slot = hotbarSlots[hotbarSlot];
+            if (slot != NOT_SHOWN && hotbarItems[hotbarSlot] != null) {
+                rendered[slot] = hotbarItems[hotbarSlot];
+            }
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,172 @@
+package me.pronil.hotbarmanager.api.gui;
+
+import me.pronil.hotbarmanager.api.cache.CacheStats;
+import org.bukkit.Bukkit;
+import org.bukkit.DyeColor;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of prerendered GUI pages per configuration generation and team colour
+ *
+ * Rendering a page from configuration (category items, glass panes, decoration) is done
+ * once per page and team colour by a {@link TemplateRenderer}; every open then only
+ * copies the template's slot array and lays the player's hotbar over it. Templates are
+ * tagged with a configuration generation, for example
+ * {@link me.pronil.hotbarmanager.api.ItemTypeRegistry#getGeneration()}, and
+ * {@link #invalidate(long)} drops them all after a reload.
+ *
+ * Usage:
+ * <pre>
+ * GuiTemplateCache guis = new GuiTemplateCache(registry.getGeneration(), this::renderPage);
+ * guis.open(player, GuiPage.manager(0), team, hotbarItems);
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class GuiTemplateCache {
+
+    /**
+     * Renders the static part of a GUI page
+     */
+    @FunctionalInterface
+    public interface TemplateRenderer {
+
+        /**
+         * Renders a page from the current configuration
+         * @param page The page to render
+         * @param teamColor Team colour to apply, or null for the uncoloured variant
+         * @return The page's template
+         */
+        GuiTemplate render(GuiPage page, DyeColor teamColor);
+    }
+
+    private static final int VARIANTS = DyeColor.values().length + 1;
+
+    private final TemplateRenderer renderer;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Templates templates;
+
+    /**
+     * Creates a new cache
+     * @param generation Generation of the current configuration
+     * @param renderer Renders pages on cache misses
+     */
+    public GuiTemplateCache(long generation, TemplateRenderer renderer) {
+        this.renderer = renderer;
+        this.templates = new Templates(generation);
+    }
+
+    /**
+     * Gets the template of a page, rendering it on first use
+     * @param page The page
+     * @param teamColor Team colour, or null for the uncoloured variant
+     * @return The page's template
+     */
+    public GuiTemplate get(GuiPage page, DyeColor teamColor) {
+        Templates current = templates;
+        AtomicReferenceArray<GuiTemplate> variants = current.pages.get(page);
+        if (variants == null) {
+            variants = current.pages.computeIfAbsent(page, key -> new AtomicReferenceArray<>(VARIANTS));
+        }
+        int variant = teamColor == null ? 0 : teamColor.ordinal() + 1;
+        GuiTemplate template = variants.get(variant);
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+
+        misses.increment();
+        GuiTemplate rendered = renderer.render(page, teamColor);
+        return variants.compareAndSet(variant, null, rendered) ? rendered : variants.get(variant);
+    }
+
+    /**
+     * Creates a page's inventory for a player, without opening it
+     * @param player The viewer
+     * @param page The page
+     * @param teamColor Team colour, or null for the uncoloured variant
+     * @param hotbarItems The player's 9 hotbar items; null entries keep the template's item
+     * @return The inventory, held by a {@link GuiHolder}
+     */
+    public Inventory createInventory(Player player, GuiPage page, DyeColor teamColor, ItemStack[] hotbarItems) {
+        GuiTemplate template = get(page, teamColor);
+        GuiHolder holder = new GuiHolder(player.getUniqueId(), page, teamColor, template);
+        Inventory inventory = Bukkit.createInventory(holder, template.getSize(), template.getTitle());
+        holder.setInventory(inventory);
+        inventory.setContents(template.render(hotbarItems));
+        return inventory;
+    }
+
+    /**
+     * Creates a page's inventory for a player and opens it; must be called on the main thread
+     * @param player The viewer
+     * @param page The page
+     * @param teamColor Team colour, or null for the uncoloured variant
+     * @param hotbarItems The player's 9 hotbar items; null entries keep the template's item
+     * @return The opened inventory
+     */
+    public Inventory open(Player player, GuiPage page, DyeColor teamColor, ItemStack[] hotbarItems) {
+        Inventory inventory = createInventory(player, page, teamColor, hotbarItems);
+        player.openInventory(inventory);
+        return inventory;
+    }
+
+    /**
+     * Drops all templates and switches to a new configuration generation
+     * @param generation Generation of the new configuration
+     */
+    public void invalidate(long generation) {
+        templates = new Templates(generation);
+    }
+
+    /**
+     * Drops all templates while keeping the current generation
+     */
+    public void invalidateAll() {
+        invalidate(templates.generation);
+    }
+
+    /**
+     * Gets the configuration generation of the cached templates
+     * @return The generation
+     */
+    public long getGeneration() {
+        return templates.generation;
+    }
+
+    /**
+     * Gets the cache's hit and miss counters
+     * @return Statistics snapshot
+     */
+    public CacheStats getStats() {
+        int size = 0;
+        for (AtomicReferenceArray<GuiTemplate> variants : templates.pages.values()) {
+            for (int i = 0; i < variants.length(); i++) {
+                if (variants.get(i) != null) {
+                    size++;
+                }
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), 0L, size);
+    }
+
+    private static final class Templates {
+
+        private final long generation;
+        private final Map<GuiPage, AtomicReferenceArray<GuiTemplate>> pages = new ConcurrentHashMap<>();
+
+        private Templates(long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package me.pronil.hotbarmanager.api.gui;
+
+/**
+ * The GUIs opened by HotbarManager
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public enum GuiType {
+
+    /**
+     * The hotbar manager, opened by {@link me.pronil.hotbarmanager.api.HotbarManagerAPI#openManagerGUI}
+     */
+    MANAGER,
+
+    /**
+     * The item selection of one category, opened by {@link me.pronil.hotbarmanager.api.HotbarManagerAPI#openSelectionGUI}
+     */
+    SELECTION
+}
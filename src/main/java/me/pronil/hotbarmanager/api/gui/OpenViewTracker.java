@@ -0,0 +1,197 @@
+package me.pronil.hotbarmanager.api.gui;
+
+import me.pronil.hotbarmanager.api.HotbarDiff;
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps open HotbarManager GUIs in sync with hotbar changes, one slot at a time
+ *
+ * Tracks the inventories held by a {@link GuiHolder} that each player has open. When a
+ * player's hotbar changes, only the changed hotbar slots are marked; once per tick the
+ * marked slots are re-rendered from the player's current hotbar and written to every
+ * open view, so rapid clicking within one tick costs one update per slot, and a change
+ * cancelled by a later listener is never shown. Empty hotbar slots show the template's
+ * static item again, such as its glass pane.
+ *
+ * Usage:
+ * <pre>
+ * OpenViewTracker tracker = new OpenViewTracker(plugin, api);
+ * Bukkit.getPluginManager().registerEvents(tracker, plugin);
+ * api.registerHotbarListener(tracker, HotbarEventType.HOTBAR_SLOT_CHANGED, HotbarEventType.HOTBAR_DIFF);
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class OpenViewTracker implements Listener, HotbarListener {
+
+    private static final int ALL_SLOTS = (1 << HotbarManagerAPI.HOTBAR_SIZE) - 1;
+
+    private final Plugin plugin;
+    private final HotbarManagerAPI api;
+    private final Map<UUID, List<GuiHolder>> views = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> dirtySlots = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a new tracker
+     * @param plugin Plugin used to schedule the per-tick flush
+     * @param api API providing the current hotbars and their items
+     */
+    public OpenViewTracker(Plugin plugin, HotbarManagerAPI api) {
+        this.plugin = plugin;
+        this.api = api;
+    }
+
+    /**
+     * Starts tracking a GUI inventory; views opened through Bukkit are tracked automatically
+     * @param inventory The inventory, ignored unless held by a {@link GuiHolder}
+     */
+    public void track(Inventory inventory) {
+        GuiHolder holder = GuiHolder.of(inventory);
+        if (holder != null) {
+            List<GuiHolder> playerViews = views.computeIfAbsent(holder.getViewer(), uuid -> new CopyOnWriteArrayList<>());
+            if (!playerViews.contains(holder)) {
+                playerViews.add(holder);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking a GUI inventory
+     * @param inventory The inventory
+     */
+    public void untrack(Inventory inventory) {
+        GuiHolder holder = GuiHolder.of(inventory);
+        if (holder == null) {
+            return;
+        }
+        List<GuiHolder> playerViews = views.get(holder.getViewer());
+        if (playerViews != null) {
+            playerViews.remove(holder);
+            if (playerViews.isEmpty()) {
+                views.remove(holder.getViewer(), playerViews);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of GUI views a player has open
+     * @param uuid The player's UUID
+     * @return Open view count
+     */
+    public int getOpenViewCount(UUID uuid) {
+        List<GuiHolder> playerViews = views.get(uuid);
+        return playerViews != null ? playerViews.size() : 0;
+    }
+
+    /**
+     * Marks hotbar slots of a player for the next update
+     * @param uuid The player's UUID
+     * @param slotMask Bit mask of changed hotbar slots, bit 0 being slot 0
+     */
+    public void markDirty(UUID uuid, int slotMask) {
+        if (slotMask == 0 || !views.containsKey(uuid)) {
+            return;
+        }
+        dirtySlots.merge(uuid, slotMask, (first, second) -> first | second);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /**
+     * Writes all marked slots to the open views now; must be called on the main thread
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        Iterator<Map.Entry<UUID, Integer>> iterator = dirtySlots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Integer> entry = iterator.next();
+            UUID uuid = entry.getKey();
+            int slotMask = entry.getValue();
+            // keeps slots marked while this entry was being read for the next flush
+            if (!dirtySlots.remove(uuid, slotMask)) {
+                continue;
+            }
+            List<GuiHolder> playerViews = views.get(uuid);
+            Player player = Bukkit.getPlayer(uuid);
+            if (playerViews == null || player == null) {
+                continue;
+            }
+            String[] hotbar = api.getPlayerHotbar(uuid);
+            for (GuiHolder holder : playerViews) {
+                update(player, holder, hotbar, slotMask);
+            }
+        }
+    }
+
+    private void update(Player player, GuiHolder holder, String[] hotbar, int slotMask) {
+        GuiTemplate template = holder.getTemplate();
+        Inventory inventory = holder.getInventory();
+        if (inventory == null) {
+            return;
+        }
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            if ((slotMask & (1 << slot)) == 0) {
+                continue;
+            }
+            int inventorySlot = template.getInventorySlot(slot);
+            if (inventorySlot == GuiTemplate.NOT_SHOWN) {
+                continue;
+            }
+            ItemStack item = HotbarManagerAPI.EMPTY_SLOT.equals(hotbar[slot]) ? null : api.getItemFromType(player, hotbar[slot]);
+            inventory.setItem(inventorySlot, item != null ? item : template.getStaticItem(inventorySlot));
+        }
+    }
+
+    @Override
+    public boolean onHotbarSlotChanged(Player player, int slot, String oldItemType, String newItemType) {
+        markDirty(player.getUniqueId(), 1 << slot);
+        return true;
+    }
+
+    @Override
+    public boolean onHotbarDiff(Player player, HotbarDiff diff) {
+        markDirty(player.getUniqueId(), diff.getChangedSlots() & ALL_SLOTS);
+        return true;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        track(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        untrack(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        views.remove(uuid);
+        dirtySlots.remove(uuid);
+    }
+}
@@ -0,0 +1,236 @@
+package me.pronil.hotbarmanager.api.metrics;
+
+import me.pronil.hotbarmanager.api.HotbarListener;
+import me.pronil.hotbarmanager.api.cache.CacheStats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runtime metrics of HotbarManager
+ *
+ * Collects latency histograms per {@link HotbarOperation}, invocation counts and time per
+ * listener class, cache statistics, queue depths and the latency of storage flushes.
+ * Operations are timed by the implementation:
+ * <pre>
+ * long start = metrics.startTimer();
+ * CompletableFuture&lt;Void&gt; future = doSetSlot(player, slot, itemType);
+ * return metrics.recordOnCompletion(HotbarOperation.SET_SLOT, start, future);
+ * </pre>
+ *
+ * Caches and queues are registered once and sampled whenever the metrics are read, for
+ * example by a {@link PrometheusExporter}. The {@link #DISABLED} instance ignores all
+ * recordings and registrations and never reads the clock, so instrumented code costs
+ * next to nothing when metrics are turned off.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class HotbarMetrics {
+
+    /**
+     * Metrics that record nothing, returned by implementations without metrics support
+     */
+    public static final HotbarMetrics DISABLED = new HotbarMetrics(false);
+
+    private final boolean enabled;
+    private final Map<HotbarOperation, LatencyHistogram> operations = new EnumMap<>(HotbarOperation.class);
+    private final LatencyHistogram storageFlushes = new LatencyHistogram();
+    private final LongAdder storageFlushFailures = new LongAdder();
+    private final Map<String, ListenerStats> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<CacheStats>> caches = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Creates new, enabled metrics
+     */
+    public HotbarMetrics() {
+        this(true);
+    }
+
+    private HotbarMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (HotbarOperation operation : HotbarOperation.values()) {
+            operations.put(operation, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Checks if these metrics record anything
+     * @return true if enabled, false for {@link #DISABLED}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing an operation
+     * @return Start timestamp to pass to {@link #record(HotbarOperation, long)}, 0 if disabled
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records an operation that finished now
+     * @param operation The operation
+     * @param startNanos Timestamp returned by {@link #startTimer()}
+     */
+    public void record(HotbarOperation operation, long startNanos) {
+        if (enabled) {
+            operations.get(operation).record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records an operation when its future completes, successfully or not
+     * @param operation The operation
+     * @param startNanos Timestamp returned by {@link #startTimer()}
+     * @param future The operation's result
+     * @param <T> Result type
+     * @return The same future
+     */
+    public <T> CompletableFuture<T> recordOnCompletion(HotbarOperation operation, long startNanos, CompletableFuture<T> future) {
+        if (enabled) {
+            future.whenComplete((result, throwable) -> record(operation, startNanos));
+        }
+        return future;
+    }
+
+    /**
+     * Gets the latency histogram of an operation
+     * @param operation The operation
+     * @return The operation's histogram
+     */
+    public LatencyHistogram getLatency(HotbarOperation operation) {
+        return operations.get(operation);
+    }
+
+    /**
+     * Gets the counters of a listener's class, creating them on first use
+     * @param listener The listener
+     * @return The listener's counters, or null if metrics are disabled
+     */
+    public ListenerStats getListenerStats(HotbarListener listener) {
+        if (!enabled) {
+            return null;
+        }
+        return listeners.computeIfAbsent(listener.getClass().getName(), ListenerStats::new);
+    }
+
+    /**
+     * Gets the counters of all listener classes that have been registered
+     * @return Listener counters, sorted by class name
+     */
+    public List<ListenerStats> getListenerStats() {
+        List<ListenerStats> stats = new ArrayList<>(listeners.values());
+        stats.sort((first, second) -> first.getName().compareTo(second.getName()));
+        return stats;
+    }
+
+    /**
+     * Registers a cache whose statistics are reported, replacing any cache of the same name
+     * @param name Cache name, for example {@code "item_templates"}
+     * @param stats Supplies the cache's current statistics
+     */
+    public void registerCache(String name, Supplier<CacheStats> stats) {
+        if (enabled) {
+            caches.put(name, stats);
+        }
+    }
+
+    /**
+     * Gets the current statistics of all registered caches
+     * @return Statistics by cache name, sorted by name
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>(caches.keySet());
+        Collections.sort(names);
+        for (String name : names) {
+            Supplier<CacheStats> supplier = caches.get(name);
+            if (supplier != null) {
+                stats.put(name, supplier.get());
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Registers a queue whose depth is reported, replacing any queue of the same name
+     * @param name Queue name, for example {@code "preset_writes"}
+     * @param depth Supplies the number of queued entries
+     */
+    public void registerQueue(String name, LongSupplier depth) {
+        if (enabled) {
+            queues.put(name, depth);
+        }
+    }
+
+    /**
+     * Gets the current depth of all registered queues
+     * @return Depth by queue name, sorted by name
+     */
+    public Map<String, Long> getQueueDepths() {
+        Map<String, Long> depths = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>(queues.keySet());
+        Collections.sort(names);
+        for (String name : names) {
+            LongSupplier supplier = queues.get(name);
+            if (supplier != null) {
+                depths.put(name, supplier.getAsLong());
+            }
+        }
+        return depths;
+    }
+
+    /**
+     * Records a batch written to the primary storage
+     * @param startNanos Timestamp returned by {@link #startTimer()}
+     */
+    public void recordStorageFlush(long startNanos) {
+        if (enabled) {
+            storageFlushes.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records a batch that failed to be written to the primary storage
+     *
+     * The attempt's latency is recorded like that of a successful flush, so slow
+     * failures such as timeouts show up in the flush histogram.
+     * @param startNanos Timestamp returned by {@link #startTimer()}
+     */
+    public void recordStorageFlushFailure(long startNanos) {
+        if (enabled) {
+            storageFlushes.record(System.nanoTime() - startNanos);
+            storageFlushFailures.increment();
+        }
+    }
+
+    /**
+     * Gets the number of failed storage flushes
+     * @return Failed flush count
+     */
+    public long getStorageFlushFailures() {
+        return storageFlushFailures.sum();
+    }
+
+    /**
+     * Gets the latency histogram of storage flushes, successful or not
+     * @return The flush histogram
+     */
+    public LatencyHistogram getStorageFlushLatency() {
+        return storageFlushes;
+    }
+}
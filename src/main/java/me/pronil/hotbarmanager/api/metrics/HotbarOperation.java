@@ -0,0 +1,34 @@
+package me.pronil.hotbarmanager.api.metrics;
+
+/**
+ * The {@link me.pronil.hotbarmanager.api.HotbarManagerAPI} operations whose latency is recorded
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public enum HotbarOperation {
+
+    SET_SLOT("set_slot"),
+    SET_HOTBAR("set_hotbar"),
+    RESET("reset"),
+    PRESET_SAVE("preset_save"),
+    PRESET_LOAD("preset_load"),
+    PRESET_DELETE("preset_delete"),
+    OPEN_MANAGER_GUI("open_manager_gui"),
+    OPEN_SELECTION_GUI("open_selection_gui");
+
+    private final String metricName;
+
+    HotbarOperation(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * Gets the name used for this operation in exported metrics
+     * @return Lower-case metric label value
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -0,0 +1,161 @@
+package me.pronil.hotbarmanager.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds
+ *
+ * Values are counted in logarithmic buckets with 8 sub-buckets per power of two, so
+ * recording is a few atomic increments and percentiles are accurate to within 12.5%
+ * over the whole range of {@code long}. Percentiles report the upper bound of the
+ * bucket they fall in; the count, total and maximum are exact.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration
+     * @param nanos Duration in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Gets the number of recorded durations
+     * @return Recorded value count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded durations
+     * @return Total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the longest recorded duration
+     * @return Maximum in nanoseconds, 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Gets the average recorded duration
+     * @return Mean in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMeanNanos() {
+        long recorded = getCount();
+        return recorded == 0 ? 0.0 : (double) getTotalNanos() / recorded;
+    }
+
+    /**
+     * Gets the duration below which a given fraction of the recorded durations fall
+     * @param percentile Percentile between 0 and 100, for example 99.9
+     * @return Upper bound of the percentile's bucket in nanoseconds, capped at the maximum;
+     *         0 if nothing was recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, got " + percentile);
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Gets cumulative counts of the recorded durations at or below given bounds
+     *
+     * A duration is counted at a bound when the whole bucket it fell in lies at or
+     * below the bound, so counts may lag by up to one bucket width (12.5%). All counts
+     * are taken from one pass over the buckets and are consistent with each other.
+     * @param upperBoundsNanos Bounds in nanoseconds, in ascending order
+     * @return One count per bound, followed by the count of all recorded durations
+     */
+    public long[] getCumulativeCounts(long... upperBoundsNanos) {
+        long[] counts = new long[upperBoundsNanos.length + 1];
+        int bound = 0;
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long upperBound = upperBoundOf(i);
+            while (bound < upperBoundsNanos.length && upperBound > upperBoundsNanos[bound]) {
+                counts[bound++] = seen;
+            }
+            seen += buckets.get(i);
+        }
+        while (bound < upperBoundsNanos.length) {
+            counts[bound++] = seen;
+        }
+        counts[upperBoundsNanos.length] = seen;
+        return counts;
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        long subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + width - 1 < 0 ? Long.MAX_VALUE : lowerBound + width - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram[count=" + getCount() + ", mean=" + (long) getMeanNanos() + "ns, p99="
+                + getPercentileNanos(99.0) + "ns, max=" + getMaxNanos() + "ns]";
+    }
+}
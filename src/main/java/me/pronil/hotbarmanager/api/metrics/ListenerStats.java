@@ -0,0 +1,77 @@
+package me.pronil.hotbarmanager.api.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation counters of one {@link me.pronil.hotbarmanager.api.HotbarListener} class
+ *
+ * Listeners are grouped by class, so several instances of the same listener share one
+ * set of counters and exported metrics keep a bounded number of series.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class ListenerStats {
+
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    ListenerStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one callback invocation
+     * @param nanos Time spent in the callback in nanoseconds
+     */
+    public void record(long nanos) {
+        invocations.increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    /**
+     * Gets the listener's class name
+     * @return Fully qualified class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of callback invocations
+     * @return Invocation count
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Gets the total time spent in callbacks
+     * @return Total in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Gets the longest single callback invocation
+     * @return Maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerStats[" + name + ", invocations=" + getInvocations() + ", total=" + getTotalNanos()
+                + "ns, max=" + getMaxNanos() + "ns]";
+    }
+}
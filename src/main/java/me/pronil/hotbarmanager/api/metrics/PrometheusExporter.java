@@ -0,0 +1,238 @@
+package me.pronil.hotbarmanager.api.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.pronil.hotbarmanager.api.cache.CacheStats;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves {@link HotbarMetrics} in the Prometheus text format
+ *
+ * Binds to the loopback interface only, so the endpoint is reachable by a Prometheus
+ * agent or {@code curl} on the same machine but not from outside. Uses the HTTP server
+ * built into the JDK and a single daemon thread; scrapes never touch the server thread.
+ * Latencies are exported as Prometheus histograms with fixed {@code le} buckets from
+ * 10 microseconds to 10 seconds, so rates and quantiles can be computed per time window
+ * on the Prometheus side, for example
+ * {@code histogram_quantile(0.99, rate(hotbarmanager_operation_seconds_bucket[1m]))}.
+ *
+ * Usage:
+ * <pre>
+ * PrometheusExporter exporter = new PrometheusExporter(api.getMetrics(), 9464);
+ * exporter.start();
+ * // curl http://127.0.0.1:9464/metrics
+ * exporter.close();
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class PrometheusExporter implements AutoCloseable {
+
+    /**
+     * Path the metrics are served on
+     */
+    public static final String PATH = "/metrics";
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] BUCKET_SECONDS = {
+            0.00001, 0.000025, 0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005,
+            0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+    };
+    private static final long[] BUCKET_NANOS = new long[BUCKET_SECONDS.length];
+    private static final String[] BUCKET_LABELS = new String[BUCKET_SECONDS.length];
+
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_NANOS[i] = Math.round(BUCKET_SECONDS[i] * 1e9);
+            BUCKET_LABELS[i] = BigDecimal.valueOf(BUCKET_SECONDS[i]).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private final HotbarMetrics metrics;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates a new exporter
+     * @param metrics The metrics to serve
+     * @param port Local port to listen on, or 0 for any free port
+     */
+    public PrometheusExporter(HotbarMetrics metrics, int port) {
+        this.metrics = metrics;
+        this.port = port;
+    }
+
+    /**
+     * Starts serving the metrics
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        HttpServer created = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        created.createContext(PATH, this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HotbarManager Metrics Exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        created.setExecutor(executor);
+        created.start();
+        server = created;
+    }
+
+    /**
+     * Gets the port the exporter listens on
+     * @return The bound port, or the configured port if not started
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    /**
+     * Stops serving the metrics
+     */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /**
+     * Renders metrics in the Prometheus text format
+     * @param metrics The metrics to render
+     * @return The exposition text
+     */
+    public static String render(HotbarMetrics metrics) {
+        StringBuilder out = new StringBuilder(4096);
+
+        header(out, "hotbarmanager_operation_seconds", "histogram", "Latency of HotbarManager API operations");
+        for (HotbarOperation operation : HotbarOperation.values()) {
+            histogram(out, "hotbarmanager_operation_seconds", "operation", operation.getMetricName(), metrics.getLatency(operation));
+        }
+
+        header(out, "hotbarmanager_listener_invocations_total", "counter", "Hotbar listener callback invocations");
+        for (ListenerStats listener : metrics.getListenerStats()) {
+            sample(out, "hotbarmanager_listener_invocations_total", "listener", listener.getName(), listener.getInvocations());
+        }
+        header(out, "hotbarmanager_listener_seconds_total", "counter", "Time spent in hotbar listener callbacks");
+        for (ListenerStats listener : metrics.getListenerStats()) {
+            sample(out, "hotbarmanager_listener_seconds_total", "listener", listener.getName(), seconds(listener.getTotalNanos()));
+        }
+        header(out, "hotbarmanager_listener_max_seconds", "gauge", "Longest single hotbar listener callback");
+        for (ListenerStats listener : metrics.getListenerStats()) {
+            sample(out, "hotbarmanager_listener_max_seconds", "listener", listener.getName(), seconds(listener.getMaxNanos()));
+        }
+
+        Map<String, CacheStats> caches = metrics.getCacheStats();
+        header(out, "hotbarmanager_cache_hits_total", "counter", "Cache lookups served from the cache");
+        for (Map.Entry<String, CacheStats> cache : caches.entrySet()) {
+            sample(out, "hotbarmanager_cache_hits_total", "cache", cache.getKey(), cache.getValue().getHits());
+        }
+        header(out, "hotbarmanager_cache_misses_total", "counter", "Cache lookups that loaded or built the value");
+        for (Map.Entry<String, CacheStats> cache : caches.entrySet()) {
+            sample(out, "hotbarmanager_cache_misses_total", "cache", cache.getKey(), cache.getValue().getMisses());
+        }
+        header(out, "hotbarmanager_cache_evictions_total", "counter", "Cache entries evicted");
+        for (Map.Entry<String, CacheStats> cache : caches.entrySet()) {
+            sample(out, "hotbarmanager_cache_evictions_total", "cache", cache.getKey(), cache.getValue().getEvictions());
+        }
+        header(out, "hotbarmanager_cache_hit_ratio", "gauge", "Fraction of cache lookups served from the cache");
+        for (Map.Entry<String, CacheStats> cache : caches.entrySet()) {
+            sample(out, "hotbarmanager_cache_hit_ratio", "cache", cache.getKey(), cache.getValue().getHitRatio());
+        }
+        header(out, "hotbarmanager_cache_size", "gauge", "Cache entries");
+        for (Map.Entry<String, CacheStats> cache : caches.entrySet()) {
+            sample(out, "hotbarmanager_cache_size", "cache", cache.getKey(), cache.getValue().getSize());
+        }
+
+        header(out, "hotbarmanager_queue_depth", "gauge", "Entries waiting in HotbarManager queues");
+        for (Map.Entry<String, Long> queue : metrics.getQueueDepths().entrySet()) {
+            sample(out, "hotbarmanager_queue_depth", "queue", queue.getKey(), queue.getValue());
+        }
+
+        header(out, "hotbarmanager_storage_flush_seconds", "histogram", "Latency of batch writes to the primary storage");
+        histogram(out, "hotbarmanager_storage_flush_seconds", null, null, metrics.getStorageFlushLatency());
+        header(out, "hotbarmanager_storage_flush_failures_total", "counter", "Batch writes to the primary storage that failed");
+        out.append("hotbarmanager_storage_flush_failures_total ").append(metrics.getStorageFlushFailures()).append('\n');
+        return out.toString();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render(metrics).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void histogram(StringBuilder out, String name, String label, String value, LatencyHistogram histogram) {
+        String labels = label != null ? label + "=\"" + escape(value) + "\"," : "";
+        long[] counts = histogram.getCumulativeCounts(BUCKET_NANOS);
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            out.append(name).append("_bucket{").append(labels).append("le=\"").append(BUCKET_LABELS[i]).append("\"} ")
+                    .append(counts[i]).append('\n');
+        }
+        long total = counts[BUCKET_SECONDS.length];
+        out.append(name).append("_bucket{").append(labels).append("le=\"+Inf\"} ").append(total).append('\n');
+        String suffix = label != null ? "{" + label + "=\"" + escape(value) + "\"}" : "";
+        out.append(name).append("_sum").append(suffix).append(' ').append(format(seconds(histogram.getTotalNanos()))).append('\n');
+        out.append(name).append("_count").append(suffix).append(' ').append(total).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String label, String value, double sample) {
+        out.append(name).append('{').append(label).append("=\"").append(escape(value)).append("\"} ")
+                .append(format(sample)).append('\n');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.9g", value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,230 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact, versioned binary encoding of {@link PlayerHotbarData}
+ *
+ * Layout of version 1, all integers big-endian, {@code varint} being an unsigned
+ * LEB128 integer and {@code string} a varint byte length followed by UTF-8 bytes:
+ * <pre>
+ * magic      4 bytes  "HBM" followed by the format version
+ * uuid       2 longs
+ * types      varint count, then count strings: the distinct item types in this record
+ * hotbar     9 varints: 0 for an empty slot, otherwise 1 + index into types
+ * presets    varint count, then per preset: string name, 9 varints as above
+ * </pre>
+ * Item types are written once per record and referenced by ordinal, so a typical
+ * player with several presets takes a few hundred bytes. The table makes each record
+ * self-contained, independent of handle numbering that changes with configuration.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class BinaryHotbarCodec {
+
+    /**
+     * Current format version
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = ('H' << 24) | ('B' << 16) | ('M' << 8);
+    private static final int MAX_STRING_LENGTH = 1 << 16;
+    private static final int MAX_TYPES = 1 << 12;
+    private static final int MAX_PRESETS = 1 << 12;
+    private static final int MIN_PRESET_LENGTH = 1 + HotbarManagerAPI.HOTBAR_SIZE;
+
+    private BinaryHotbarCodec() {
+    }
+
+    /**
+     * Encodes player data
+     * @param data The data to encode
+     * @return The encoded record
+     */
+    public static byte[] encode(PlayerHotbarData data) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> types = new ArrayList<>();
+        collectTypes(data.getHotbar(), ordinals, types);
+        for (String presetName : data.getPresetNames()) {
+            collectTypes(data.getPreset(presetName), ordinals, types);
+        }
+
+        Writer out = new Writer(64 + types.size() * 24 + data.getPresetCount() * 32);
+        out.writeInt(MAGIC | VERSION);
+        out.writeLong(data.getUniqueId().getMostSignificantBits());
+        out.writeLong(data.getUniqueId().getLeastSignificantBits());
+        out.writeVarInt(types.size());
+        for (String type : types) {
+            out.writeString(type);
+        }
+        writeSlots(out, data.getHotbar(), ordinals);
+        out.writeVarInt(data.getPresetCount());
+        for (String presetName : data.getPresetNames()) {
+            out.writeString(presetName);
+            writeSlots(out, data.getPreset(presetName), ordinals);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes player data
+     * @param buffer Buffer positioned at the start of a record
+     * @return The decoded data
+     * @throws IOException if the record is corrupt or uses an unsupported version
+     */
+    public static PlayerHotbarData decode(ByteBuffer buffer) throws IOException {
+        try {
+            int header = buffer.getInt();
+            if ((header & 0xFFFFFF00) != MAGIC) {
+                throw new IOException("Not a hotbar data record");
+            }
+            int version = header & 0xFF;
+            if (version != VERSION) {
+                throw new IOException("Unsupported hotbar data version " + version);
+            }
+
+            UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+            int typeCount = readVarInt(buffer);
+            // every type takes at least its length byte
+            if (typeCount < 0 || typeCount > MAX_TYPES || typeCount > buffer.remaining()) {
+                throw new IOException("Invalid item type count " + typeCount);
+            }
+            String[] types = new String[typeCount];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = readString(buffer);
+            }
+            String[] hotbar = readSlots(buffer, types);
+            int presetCount = readVarInt(buffer);
+            if (presetCount < 0 || presetCount > MAX_PRESETS || presetCount > buffer.remaining() / MIN_PRESET_LENGTH) {
+                throw new IOException("Invalid preset count " + presetCount);
+            }
+            Map<String, String[]> presets = new LinkedHashMap<>();
+            for (int i = 0; i < presetCount; i++) {
+                String presetName = readString(buffer);
+                presets.put(presetName, readSlots(buffer, types));
+            }
+            return PlayerHotbarData.of(uuid, hotbar, presets);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt hotbar data record", e);
+        }
+    }
+
+    private static void collectTypes(String[] hotbar, Map<String, Integer> ordinals, List<String> types) {
+        for (String itemType : hotbar) {
+            if (!HotbarManagerAPI.EMPTY_SLOT.equals(itemType) && !ordinals.containsKey(itemType)) {
+                ordinals.put(itemType, types.size());
+                types.add(itemType);
+            }
+        }
+    }
+
+    private static void writeSlots(Writer out, String[] hotbar, Map<String, Integer> ordinals) {
+        for (String itemType : hotbar) {
+            Integer ordinal = ordinals.get(itemType);
+            out.writeVarInt(ordinal == null ? 0 : ordinal + 1);
+        }
+    }
+
+    private static String[] readSlots(ByteBuffer buffer, String[] types) throws IOException {
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            int ordinal = readVarInt(buffer);
+            if (ordinal < 0 || ordinal > types.length) {
+                throw new IOException("Item type ordinal " + ordinal + " out of range");
+            }
+            hotbar[slot] = ordinal == 0 ? HotbarManagerAPI.EMPTY_SLOT : types[ordinal - 1];
+        }
+        return hotbar;
+    }
+
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = readVarInt(buffer);
+        if (length < 0 || length > MAX_STRING_LENGTH || length > buffer.remaining()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Minimal growable big-endian byte writer
+     */
+    private static final class Writer {
+
+        private byte[] bytes;
+        private int size;
+
+        private Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                byte[] grown = new byte[Math.max(bytes.length * 2, size + extra)];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                bytes = grown;
+            }
+        }
+
+        private void writeInt(int value) {
+            ensure(4);
+            bytes[size++] = (byte) (value >>> 24);
+            bytes[size++] = (byte) (value >>> 16);
+            bytes[size++] = (byte) (value >>> 8);
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        private void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(encoded.length);
+            ensure(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        private byte[] toByteArray() {
+            byte[] result = new byte[size];
+            System.arraycopy(bytes, 0, result, 0, size);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@link HotbarStorage} backed by a {@link BinaryHotbarStore}
+ *
+ * All writes run on one background thread, which also serialises the read-modify-write
+ * of preset mutations per player file. Loads run on the same thread by default, or
+ * concurrently on a separate executor such as
+ * {@link me.pronil.hotbarmanager.api.HotbarExecutors#newIoExecutor(String, int)}; records
+ * are replaced atomically, so a load never sees a partial write. A load of a player with
+ * writes still queued runs on the writer thread behind them, so it reads what was
+ * saved before it was requested.
+ *
+ * Unlike {@link SqliteHotbarStorage}, presets are not content-addressed on disk: every
+ * player file holds its own copy of each preset layout, and there is no shared layout
+ * record, reference count or garbage collection. Loaded presets are still interned in
+ * memory through {@link PresetLayoutInterner}, so only the files are not deduplicated.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class BinaryHotbarStorage implements HotbarStorage {
+
+    private final BinaryHotbarStore store;
+    private final ExecutorService executor;
+    private final ExecutorService readExecutor;
+    private final Map<UUID, Integer> queuedWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new storage running all operations on one background thread
+     * @param store The underlying file store
+     */
+    public BinaryHotbarStorage(BinaryHotbarStore store) {
+        this(store, null);
+    }
+
+    /**
+     * Creates a new storage with a separate executor for loads
+     * @param store The underlying file store
+     * @param readExecutor Executor for loads, shut down when the storage is closed;
+     *                     null to load on the writer thread
+     */
+    public BinaryHotbarStorage(BinaryHotbarStore store, ExecutorService readExecutor) {
+        this.store = store;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HotbarManager File Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.readExecutor = readExecutor != null ? readExecutor : executor;
+    }
+
+    @Override
+    public CompletableFuture<PlayerHotbarData> load(UUID uuid) {
+        return submit(() -> {
+            try {
+                return store.load(uuid);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, readExecutor == executor || !queuedWrites.containsKey(uuid) ? readExecutor : executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerHotbarData data) {
+        return write(Collections.singleton(data.getUniqueId()), () -> {
+            try {
+                store.save(data);
+                return null;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAll(Collection<PlayerHotbarData> data) {
+        List<PlayerHotbarData> copy = new ArrayList<>(data);
+        List<UUID> uuids = new ArrayList<>(copy.size());
+        for (PlayerHotbarData player : copy) {
+            uuids.add(player.getUniqueId());
+        }
+        return write(uuids, () -> {
+            try {
+                for (PlayerHotbarData player : copy) {
+                    store.save(player);
+                }
+                return null;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> writePresets(Collection<PresetMutation> mutations) {
+        Map<UUID, List<PresetMutation>> byPlayer = new LinkedHashMap<>();
+        for (PresetMutation mutation : mutations) {
+            byPlayer.computeIfAbsent(mutation.getUniqueId(), uuid -> new ArrayList<>()).add(mutation);
+        }
+        return write(byPlayer.keySet(), () -> {
+            try {
+                for (Map.Entry<UUID, List<PresetMutation>> entry : byPlayer.entrySet()) {
+                    PlayerHotbarData data = store.load(entry.getKey());
+                    if (data == null) {
+                        data = PlayerHotbarData.empty(entry.getKey());
+                    }
+                    for (PresetMutation mutation : entry.getValue()) {
+                        data = data.apply(mutation);
+                    }
+                    store.save(data);
+                }
+                return null;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(UUID uuid) {
+        return write(Collections.singleton(uuid), () -> {
+            try {
+                return store.delete(uuid);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        shutdown(executor);
+        if (readExecutor != executor) {
+            shutdown(readExecutor);
+        }
+    }
+
+    private <T> CompletableFuture<T> write(Collection<UUID> uuids, Supplier<T> task) {
+        // Counted before the task is queued, so a load requested after this call sees it
+        for (UUID uuid : uuids) {
+            queuedWrites.merge(uuid, 1, Integer::sum);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    release(uuids);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            release(uuids);
+            return failed(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> task, ExecutorService executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            // Thrown once the storage is closed; reported through the future like any other failure
+            return failed(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private void release(Collection<UUID> uuids) {
+        for (UUID uuid : uuids) {
+            queuedWrites.computeIfPresent(uuid, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * File-per-player store of {@link BinaryHotbarCodec} records
+ *
+ * Files are spread over 256 shard directories named after the first two hex digits of
+ * the UUID, so no single directory grows to the size of the player base. Writes go to a
+ * temporary file in the same shard that is then atomically moved over the old record,
+ * so a crash never leaves a half-written file behind. Each record is self-contained,
+ * including full copies of the player's preset layouts; layouts are not shared between
+ * files.
+ *
+ * By default each save forces the temporary file to disk before the move, so a saved
+ * record also survives a power loss. That fsync costs milliseconds on ordinary disks and
+ * dominates the cost of a save. Stores created with {@code sync} off skip it: a process
+ * crash still loses nothing, but a power loss can lose recent saves, or leave an empty
+ * record on file systems that do not order the rename after the data. Turn it off only
+ * when that loss is acceptable. A {@link PresetJournal} does not cover it: compaction
+ * drops mutations once they were written, whether or not the record reached the disk.
+ *
+ * Records are normally read into a heap buffer with a single channel read; only files of
+ * at least {@link #DEFAULT_MMAP_THRESHOLD} bytes are memory-mapped, as mapping a file that
+ * fits in one page costs more than copying it.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class BinaryHotbarStore {
+
+    /**
+     * File extension of stored records
+     */
+    public static final String EXTENSION = ".hbd";
+
+    /**
+     * Default minimum file size for memory-mapped reads
+     */
+    public static final int DEFAULT_MMAP_THRESHOLD = 64 * 1024;
+
+    private final Path root;
+    private final int mmapThreshold;
+    private final boolean sync;
+
+    /**
+     * Creates a store with the default memory-map threshold that syncs every save
+     * @param root Directory containing the shard directories
+     */
+    public BinaryHotbarStore(File root) {
+        this(root, DEFAULT_MMAP_THRESHOLD);
+    }
+
+    /**
+     * Creates a store that syncs every save
+     * @param root Directory containing the shard directories
+     * @param mmapThreshold Minimum file size in bytes for memory-mapped reads
+     */
+    public BinaryHotbarStore(File root, int mmapThreshold) {
+        this(root, mmapThreshold, true);
+    }
+
+    /**
+     * Creates a store
+     * @param root Directory containing the shard directories
+     * @param mmapThreshold Minimum file size in bytes for memory-mapped reads
+     * @param sync true to force every saved record to disk before it replaces the old one
+     */
+    public BinaryHotbarStore(File root, int mmapThreshold, boolean sync) {
+        this.root = root.toPath();
+        this.mmapThreshold = mmapThreshold;
+        this.sync = sync;
+    }
+
+    /**
+     * Gets the root directory of this store
+     * @return The root directory
+     */
+    public File getRoot() {
+        return root.toFile();
+    }
+
+    /**
+     * Gets the file a player's record is stored in
+     * @param uuid The player's UUID
+     * @return The record file, which may not exist
+     */
+    public File getFile(UUID uuid) {
+        return path(uuid).toFile();
+    }
+
+    /**
+     * Checks if a player has a stored record
+     * @param uuid The player's UUID
+     * @return true if a record exists
+     */
+    public boolean exists(UUID uuid) {
+        return Files.isRegularFile(path(uuid));
+    }
+
+    /**
+     * Loads a player's record
+     * @param uuid The player's UUID
+     * @return The stored data, or null if the player has no record
+     * @throws IOException if the record cannot be read or is corrupt
+     */
+    public PlayerHotbarData load(UUID uuid) throws IOException {
+        Path file = path(uuid);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Hotbar data file too large: " + file);
+            }
+            ByteBuffer buffer;
+            if (size >= mmapThreshold) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep reading until the buffer is full or the file ends
+                }
+                buffer.flip();
+            }
+            PlayerHotbarData data = BinaryHotbarCodec.decode(buffer);
+            if (!data.getUniqueId().equals(uuid)) {
+                throw new IOException("Hotbar data file " + file + " belongs to " + data.getUniqueId());
+            }
+            return data;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stores a player's record, replacing any previous one
+     * @param data The data to store
+     * @throws IOException if the record cannot be written
+     */
+    public void save(PlayerHotbarData data) throws IOException {
+        Path file = path(data.getUniqueId());
+        Path shard = file.getParent();
+        Files.createDirectories(shard);
+
+        Path temp = Files.createTempFile(shard, data.getUniqueId().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(BinaryHotbarCodec.encode(data));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (sync) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes a player's record
+     * @param uuid The player's UUID
+     * @return true if a record was deleted
+     * @throws IOException if the record cannot be deleted
+     */
+    public boolean delete(UUID uuid) throws IOException {
+        return Files.deleteIfExists(path(uuid));
+    }
+
+    private Path path(UUID uuid) {
+        String name = uuid.toString();
+        return root.resolve(name.substring(0, 2)).resolve(name + EXTENSION);
+    }
+}
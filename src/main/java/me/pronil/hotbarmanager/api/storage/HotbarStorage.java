@@ -0,0 +1,98 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Storage backend for player hotbars and presets
+ *
+ * HotbarManager uses the highest-priority implementation registered with Bukkit's
+ * {@link org.bukkit.plugin.ServicesManager} when it enables, and falls back to its
+ * configured built-in storage otherwise. To replace the storage, register a provider
+ * from a plugin that loads before HotbarManager:
+ * <pre>
+ * getServer().getServicesManager().register(HotbarStorage.class, myStorage, this, ServicePriority.Normal);
+ * </pre>
+ * All methods must return without blocking and perform their I/O asynchronously.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public interface HotbarStorage extends AutoCloseable {
+
+    /**
+     * Loads a player's data
+     * @param uuid The player's UUID
+     * @return CompletableFuture with the stored data, or null if the player has none
+     */
+    CompletableFuture<PlayerHotbarData> load(UUID uuid);
+
+    /**
+     * Stores a player's data, replacing the hotbar and all presets
+     * @param data The data to store
+     * @return CompletableFuture that completes when the data is persisted
+     */
+    CompletableFuture<Void> save(PlayerHotbarData data);
+
+    /**
+     * Stores the data of several players; implementations should use a single transaction
+     * @param data The data to store
+     * @return CompletableFuture that completes when all data is persisted
+     */
+    default CompletableFuture<Void> saveAll(Collection<PlayerHotbarData> data) {
+        CompletableFuture<?>[] saves = new CompletableFuture<?>[data.size()];
+        int i = 0;
+        for (PlayerHotbarData player : data) {
+            saves[i++] = save(player);
+        }
+        return CompletableFuture.allOf(saves);
+    }
+
+    /**
+     * Applies preset saves and deletions
+     * @param mutations The mutations to apply, in order
+     * @return CompletableFuture that completes when the mutations are persisted
+     */
+    CompletableFuture<Void> writePresets(Collection<PresetMutation> mutations);
+
+    /**
+     * Deletes all data of a player
+     * @param uuid The player's UUID
+     * @return CompletableFuture with true if the player had data
+     */
+    CompletableFuture<Boolean> delete(UUID uuid);
+
+    /**
+     * Adapts this storage as the target of a {@link PresetWriteBehind}
+     * @return Batch writer that blocks until {@link #writePresets(Collection)} completes
+     */
+    default PresetBatchWriter asPresetBatchWriter() {
+        return mutations -> {
+            try {
+                writePresets(mutations).join();
+            } catch (CompletionException e) {
+                throw new IOException("Could not write " + mutations.size() + " preset changes", e.getCause());
+            }
+        };
+    }
+
+    /**
+     * Waits for pending operations and releases the storage's resources
+     */
+    @Override
+    void close();
+
+    /**
+     * Gets the storage registered with Bukkit's services manager
+     * @return The highest-priority registered storage, or null if none is registered
+     */
+    static HotbarStorage getRegistered() {
+        return Bukkit.getServicesManager().load(HotbarStorage.class);
+    }
+}
@@ -0,0 +1,156 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One-time migration of legacy per-player JSON files into a {@link BinaryHotbarStore}
+ *
+ * Each {@code <uuid>.json} file is expected to contain a {@code hotbar} array of 9 item
+ * types (or an object keyed by slot index) and an optional {@code presets} object mapping
+ * preset names to hotbars in the same form. Migrated files are renamed to
+ * {@code <uuid>.json.migrated}, so a migration that was interrupted resumes where it
+ * stopped and running it again is harmless.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class JsonHotbarMigrator {
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String MIGRATED_EXTENSION = ".migrated";
+
+    private final File source;
+    private final BinaryHotbarStore target;
+    private final Logger logger;
+
+    /**
+     * Creates a migrator
+     * @param source Directory containing the legacy JSON files
+     * @param target Store the data is migrated into
+     * @param logger Logger for files that cannot be migrated
+     */
+    public JsonHotbarMigrator(File source, BinaryHotbarStore target, Logger logger) {
+        this.source = source;
+        this.target = target;
+        this.logger = logger;
+    }
+
+    /**
+     * Checks if there are legacy files left to migrate
+     * @return true if at least one JSON file remains
+     */
+    public boolean isMigrationNeeded() {
+        File[] files = listJsonFiles();
+        return files != null && files.length > 0;
+    }
+
+    /**
+     * Migrates all remaining legacy files
+     *
+     * Files that cannot be parsed or have no recognizable hotbar are logged and left in place.
+     * @return Number of players migrated
+     */
+    public int migrate() {
+        File[] files = listJsonFiles();
+        if (files == null) {
+            return 0;
+        }
+        int migrated = 0;
+        for (File file : files) {
+            String name = file.getName();
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(name.substring(0, name.length() - JSON_EXTENSION.length()));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            try {
+                if (!target.exists(uuid)) {
+                    target.save(read(uuid, file));
+                }
+                Files.move(file.toPath(), new File(source, name + MIGRATED_EXTENSION).toPath());
+                migrated++;
+            } catch (IOException | ParseException | RuntimeException e) {
+                logger.log(Level.WARNING, "Could not migrate hotbar data file " + file, e);
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * Reads one legacy JSON file
+     * @param uuid UUID of the player the file belongs to
+     * @param file The JSON file
+     * @return The parsed data
+     * @throws IOException if the file cannot be read or has no recognizable hotbar
+     * @throws ParseException if the file is not valid JSON
+     */
+    public static PlayerHotbarData read(UUID uuid, File file) throws IOException, ParseException {
+        Object parsed;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            parsed = new JSONParser().parse(reader);
+        }
+        if (!(parsed instanceof JSONObject)) {
+            throw new IOException("Expected a JSON object in " + file);
+        }
+        JSONObject root = (JSONObject) parsed;
+
+        Map<String, String[]> presets = new LinkedHashMap<>();
+        Object presetsValue = root.get("presets");
+        if (presetsValue instanceof JSONObject) {
+            for (Object entry : ((JSONObject) presetsValue).entrySet()) {
+                Map.Entry<?, ?> preset = (Map.Entry<?, ?>) entry;
+                presets.put(String.valueOf(preset.getKey()), toHotbar(preset.getValue()));
+            }
+        }
+        return PlayerHotbarData.of(uuid, toHotbar(root.get("hotbar")), presets);
+    }
+
+    private static String[] toHotbar(Object value) throws IOException {
+        if (!(value instanceof JSONArray) && !(value instanceof JSONObject)) {
+            throw new IOException("Expected a hotbar array or object, got " + value);
+        }
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        Arrays.fill(hotbar, HotbarManagerAPI.EMPTY_SLOT);
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            for (int slot = 0; slot < hotbar.length && slot < array.size(); slot++) {
+                hotbar[slot] = toItemType(array.get(slot));
+            }
+        } else if (value instanceof JSONObject) {
+            for (Object entry : ((JSONObject) value).entrySet()) {
+                Map.Entry<?, ?> slotEntry = (Map.Entry<?, ?>) entry;
+                int slot = Integer.parseInt(String.valueOf(slotEntry.getKey()));
+                if (slot >= 0 && slot < hotbar.length) {
+                    hotbar[slot] = toItemType(slotEntry.getValue());
+                }
+            }
+        }
+        return hotbar;
+    }
+
+    private static String toItemType(Object value) {
+        return value == null ? HotbarManagerAPI.EMPTY_SLOT : String.valueOf(value);
+    }
+
+    private File[] listJsonFiles() {
+        return source.listFiles((dir, name) -> name.endsWith(JSON_EXTENSION));
+    }
+}
@@ -0,0 +1,94 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Content hash of a hotbar layout, used to store each distinct preset layout once
+ *
+ * Two hotbars with the same item type in every slot have the same hash, regardless of
+ * which player or preset they belong to. The hash is the SHA-1 digest of the
+ * length-prefixed UTF-8 item types of the nine slots.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class LayoutHash {
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    });
+
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private LayoutHash(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Computes the hash of a hotbar
+     * @param hotbar Array of 9 item type identifiers, null slots counting as empty
+     * @return The hash
+     */
+    public static LayoutHash of(String[] hotbar) {
+        if (hotbar.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Hotbar must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots");
+        }
+        MessageDigest digest = DIGEST.get();
+        digest.reset();
+        for (String itemType : hotbar) {
+            byte[] encoded = (itemType != null ? itemType : HotbarManagerAPI.EMPTY_SLOT).getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) (encoded.length >>> 8));
+            digest.update((byte) encoded.length);
+            digest.update(encoded);
+        }
+        return new LayoutHash(digest.digest());
+    }
+
+    /**
+     * Restores a hash from its bytes
+     * @param bytes The bytes returned by {@link #toBytes()}
+     * @return The hash
+     */
+    public static LayoutHash fromBytes(byte[] bytes) {
+        return new LayoutHash(bytes.clone());
+    }
+
+    /**
+     * Gets the bytes of this hash
+     * @return Copy of the digest
+     */
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof LayoutHash && Arrays.equals(bytes, ((LayoutHash) o).bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >>> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,154 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable stored state of one player: the current hotbar and all presets
+ *
+ * Every modification returns a new instance, so a loaded value can be shared between
+ * threads and caches without copying. Presets with the same layout share one array
+ * through the {@link PresetLayoutInterner}.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class PlayerHotbarData {
+
+    private final UUID uuid;
+    private final String[] hotbar;
+    private final Map<String, String[]> presets;
+
+    private PlayerHotbarData(UUID uuid, String[] hotbar, Map<String, String[]> presets) {
+        this.uuid = uuid;
+        this.hotbar = hotbar;
+        this.presets = presets;
+    }
+
+    /**
+     * Creates the data of a player with an empty hotbar and no presets
+     * @param uuid The player's UUID
+     * @return The empty data
+     */
+    public static PlayerHotbarData empty(UUID uuid) {
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        Arrays.fill(hotbar, HotbarManagerAPI.EMPTY_SLOT);
+        return new PlayerHotbarData(uuid, hotbar, Collections.<String, String[]>emptyMap());
+    }
+
+    /**
+     * Creates the data of a player
+     * @param uuid The player's UUID
+     * @param hotbar Array of 9 item type identifiers of the current hotbar
+     * @param presets Array of 9 item type identifiers for each preset name
+     * @return The data
+     */
+    public static PlayerHotbarData of(UUID uuid, String[] hotbar, Map<String, String[]> presets) {
+        Map<String, String[]> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> entry : presets.entrySet()) {
+            copy.put(entry.getKey(), PresetLayoutInterner.intern(normalize(entry.getValue())));
+        }
+        return new PlayerHotbarData(uuid, normalize(hotbar), Collections.unmodifiableMap(copy));
+    }
+
+    /**
+     * Gets the UUID of the player
+     * @return The player's UUID
+     */
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * Gets the current hotbar
+     * @return Copy of the 9 item type identifiers
+     */
+    public String[] getHotbar() {
+        return hotbar.clone();
+    }
+
+    /**
+     * Gets the item type in one slot of the current hotbar
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type identifier, {@link HotbarManagerAPI#EMPTY_SLOT} for empty slots
+     */
+    public String getItemType(int slot) {
+        return hotbar[slot];
+    }
+
+    /**
+     * Gets the names of all presets in the order they were saved
+     * @return Unmodifiable set of preset names
+     */
+    public Set<String> getPresetNames() {
+        return presets.keySet();
+    }
+
+    /**
+     * Gets a preset
+     * @param presetName Name of the preset
+     * @return Copy of the 9 item type identifiers, or null if the preset does not exist
+     */
+    public String[] getPreset(String presetName) {
+        String[] preset = presets.get(presetName);
+        return preset != null ? preset.clone() : null;
+    }
+
+    /**
+     * Gets the number of presets
+     * @return Preset count
+     */
+    public int getPresetCount() {
+        return presets.size();
+    }
+
+    /**
+     * Returns a copy of this data with a different current hotbar
+     * @param hotbar Array of 9 item type identifiers
+     * @return The new data
+     */
+    public PlayerHotbarData withHotbar(String[] hotbar) {
+        return new PlayerHotbarData(uuid, normalize(hotbar), presets);
+    }
+
+    /**
+     * Returns a copy of this data with a preset mutation applied
+     * @param mutation A save or deletion of one of this player's presets
+     * @return The new data
+     */
+    public PlayerHotbarData apply(PresetMutation mutation) {
+        if (!mutation.getUniqueId().equals(uuid)) {
+            throw new IllegalArgumentException("Mutation belongs to " + mutation.getUniqueId() + ", not " + uuid);
+        }
+        Map<String, String[]> copy = new LinkedHashMap<>(presets);
+        if (mutation.isDeletion()) {
+            copy.remove(mutation.getPresetName());
+        } else {
+            copy.put(mutation.getPresetName(), PresetLayoutInterner.intern(mutation.getHotbar()));
+        }
+        return new PlayerHotbarData(uuid, hotbar, Collections.unmodifiableMap(copy));
+    }
+
+    private static String[] normalize(String[] hotbar) {
+        if (hotbar == null || hotbar.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Hotbar must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots");
+        }
+        String[] copy = new String[hotbar.length];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            copy[slot] = hotbar[slot] != null ? hotbar[slot] : HotbarManagerAPI.EMPTY_SLOT;
+        }
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerHotbarData[" + uuid + ", hotbar=" + Arrays.toString(hotbar) + ", presets=" + presets.keySet() + "]";
+    }
+}
@@ -0,0 +1,22 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Persists a batch of preset mutations to the primary storage
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+@FunctionalInterface
+public interface PresetBatchWriter {
+
+    /**
+     * Writes a batch of mutations; at most one mutation per player and preset name
+     * @param mutations The mutations to persist, in no particular order
+     * @throws IOException if the batch could not be persisted
+     */
+    void write(Collection<PresetMutation> mutations) throws IOException;
+}
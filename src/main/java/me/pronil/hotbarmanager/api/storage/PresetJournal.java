@@ -0,0 +1,209 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of preset mutations
+ *
+ * Every mutation is appended as one length-prefixed, CRC-checked record before it is
+ * acknowledged, so mutations that were not yet written to the primary storage survive
+ * a crash of the server process and are recovered with {@link #replay()}. Records reach
+ * the storage device on {@link #sync()} and {@link #compact(Collection)}; after a power
+ * loss, records appended since the last sync may be missing.
+ *
+ * A torn record at the end of the file (from a crash in the middle of an append) or a
+ * record failing its checksum ends the replay instead of failing it. The replay cuts it
+ * off together with everything behind it, so later appends follow the last intact
+ * record and are read by the next replay.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class PresetJournal implements AutoCloseable {
+
+    private static final byte OP_SAVE = 1;
+    private static final byte OP_DELETE = 2;
+    private static final int MAX_RECORD_LENGTH = 1 << 16;
+
+    private final File file;
+    private FileChannel channel;
+
+    /**
+     * Opens a journal, creating the file if it does not exist
+     * @param file The journal file
+     * @throws IOException if the file cannot be opened
+     */
+    public PresetJournal(File file) throws IOException {
+        this.file = file;
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        this.channel = open(file);
+    }
+
+    /**
+     * Appends a mutation
+     * @param mutation The mutation to append
+     * @throws IOException if the record could not be written
+     */
+    public synchronized void append(PresetMutation mutation) throws IOException {
+        ByteBuffer record = encode(mutation);
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    /**
+     * Forces all appended records to the storage device
+     * @throws IOException if the journal could not be synced
+     */
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Gets the current size of the journal file
+     * @return Size in bytes
+     * @throws IOException if the size cannot be read
+     */
+    public synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Reads all intact records from the journal and truncates it after the last one
+     * @return The recorded mutations, in append order
+     * @throws IOException if the file cannot be read or truncated
+     */
+    public synchronized List<PresetMutation> replay() throws IOException {
+        List<PresetMutation> mutations = new ArrayList<>();
+        long intactLength = 0L;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                long checksum;
+                byte[] payload;
+                try {
+                    int length = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_LENGTH) {
+                        break;
+                    }
+                    checksum = in.readInt() & 0xFFFFFFFFL;
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, payload.length);
+                if (crc.getValue() != checksum) {
+                    break;
+                }
+                mutations.add(decode(payload));
+                intactLength += 8 + payload.length;
+            }
+        }
+        if (channel.size() > intactLength) {
+            channel.truncate(intactLength);
+            channel.force(false);
+        }
+        return mutations;
+    }
+
+    /**
+     * Atomically replaces the journal with one containing only the given mutations
+     *
+     * Called after the primary storage has caught up, so the journal only keeps the
+     * mutations that are still pending.
+     * @param pending The mutations that are not yet persisted
+     * @throws IOException if the journal could not be rewritten
+     */
+    public synchronized void compact(Collection<PresetMutation> pending) throws IOException {
+        File compacted = new File(file.getPath() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (PresetMutation mutation : pending) {
+                ByteBuffer record = encode(mutation);
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+            out.force(false);
+        }
+
+        channel.close();
+        Files.move(compacted.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(file);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static FileChannel open(File file) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static ByteBuffer encode(PresetMutation mutation) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(mutation.isDeletion() ? OP_DELETE : OP_SAVE);
+        out.writeLong(mutation.getUniqueId().getMostSignificantBits());
+        out.writeLong(mutation.getUniqueId().getLeastSignificantBits());
+        out.writeUTF(mutation.getPresetName());
+        if (!mutation.isDeletion()) {
+            for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+                out.writeUTF(mutation.getItemType(slot));
+            }
+        }
+        out.flush();
+
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+
+        ByteBuffer record = ByteBuffer.allocate(8 + payload.length);
+        record.putInt(payload.length);
+        record.putInt((int) crc.getValue());
+        record.put(payload);
+        record.flip();
+        return record;
+    }
+
+    private static PresetMutation decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte op = in.readByte();
+        UUID uuid = new UUID(in.readLong(), in.readLong());
+        String presetName = in.readUTF();
+        if (op == OP_DELETE) {
+            return PresetMutation.delete(uuid, presetName);
+        }
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            hotbar[slot] = in.readUTF();
+        }
+        return PresetMutation.save(uuid, presetName, hotbar);
+    }
+}
@@ -0,0 +1,83 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalises preset layouts in memory
+ *
+ * Most players save the same few layouts, so {@link PlayerHotbarData} keeps one shared
+ * array per distinct layout instead of one per player and preset. Canonical arrays are
+ * only weakly referenced and disappear once no cached player uses them. Interned arrays
+ * are shared and must never be modified.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class PresetLayoutInterner {
+
+    private static final ConcurrentMap<LayoutHash, LayoutReference> LAYOUTS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<String[]> COLLECTED = new ReferenceQueue<>();
+
+    private PresetLayoutInterner() {
+    }
+
+    /**
+     * Gets the canonical array with the same content as a hotbar
+     * @param hotbar Array of 9 item type identifiers that is no longer modified by the caller
+     * @return The canonical array, which is {@code hotbar} itself if it is the first of its kind
+     */
+    public static String[] intern(String[] hotbar) {
+        expungeCollected();
+        LayoutHash hash = LayoutHash.of(hotbar);
+        while (true) {
+            LayoutReference reference = LAYOUTS.get(hash);
+            if (reference == null) {
+                reference = new LayoutReference(hash, hotbar);
+                if (LAYOUTS.putIfAbsent(hash, reference) == null) {
+                    return hotbar;
+                }
+                continue;
+            }
+            String[] canonical = reference.get();
+            if (canonical == null) {
+                LAYOUTS.replace(hash, reference, new LayoutReference(hash, hotbar));
+                continue;
+            }
+            // Guards against a hash collision rather than trusting the digest alone
+            return Arrays.equals(canonical, hotbar) ? canonical : hotbar;
+        }
+    }
+
+    /**
+     * Gets the number of distinct layouts currently interned
+     * @return Layout count, including layouts that are collected but not yet expunged
+     */
+    public static int size() {
+        expungeCollected();
+        return LAYOUTS.size();
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends String[]> reference;
+        while ((reference = COLLECTED.poll()) != null) {
+            LayoutReference collected = (LayoutReference) reference;
+            LAYOUTS.remove(collected.hash, collected);
+        }
+    }
+
+    private static final class LayoutReference extends WeakReference<String[]> {
+
+        private final LayoutHash hash;
+
+        private LayoutReference(LayoutHash hash, String[] hotbar) {
+            super(hotbar, COLLECTED);
+            this.hash = hash;
+        }
+    }
+}
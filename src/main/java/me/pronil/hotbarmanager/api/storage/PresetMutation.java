@@ -0,0 +1,103 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A single pending change to a player's presets: a save or a deletion
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public final class PresetMutation {
+
+    private final UUID uuid;
+    private final String presetName;
+    private final String[] hotbar;
+
+    private PresetMutation(UUID uuid, String presetName, String[] hotbar) {
+        if (uuid == null || presetName == null) {
+            throw new IllegalArgumentException("UUID and preset name must not be null");
+        }
+        this.uuid = uuid;
+        this.presetName = presetName;
+        this.hotbar = hotbar;
+    }
+
+    /**
+     * Creates a mutation saving a preset
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset
+     * @param hotbar Array of 9 item type identifiers stored in the preset
+     * @return The mutation
+     */
+    public static PresetMutation save(UUID uuid, String presetName, String[] hotbar) {
+        if (hotbar == null || hotbar.length != HotbarManagerAPI.HOTBAR_SIZE) {
+            throw new IllegalArgumentException("Preset hotbar must have " + HotbarManagerAPI.HOTBAR_SIZE + " slots");
+        }
+        String[] copy = new String[hotbar.length];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            copy[slot] = hotbar[slot] != null ? hotbar[slot] : HotbarManagerAPI.EMPTY_SLOT;
+        }
+        return new PresetMutation(uuid, presetName, copy);
+    }
+
+    /**
+     * Creates a mutation deleting a preset
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset
+     * @return The mutation
+     */
+    public static PresetMutation delete(UUID uuid, String presetName) {
+        return new PresetMutation(uuid, presetName, null);
+    }
+
+    /**
+     * Gets the UUID of the player owning the preset
+     * @return The player's UUID
+     */
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * Gets the name of the preset
+     * @return Preset name
+     */
+    public String getPresetName() {
+        return presetName;
+    }
+
+    /**
+     * Checks if this mutation deletes the preset
+     * @return true for a deletion, false for a save
+     */
+    public boolean isDeletion() {
+        return hotbar == null;
+    }
+
+    /**
+     * Gets the hotbar stored by a save
+     * @return Copy of the 9 item type identifiers, or null for a deletion
+     */
+    public String[] getHotbar() {
+        return hotbar != null ? hotbar.clone() : null;
+    }
+
+    /**
+     * Gets the item type stored in one slot by a save
+     * @param slot Hotbar slot index (0-8)
+     * @return Item type identifier, or null for a deletion
+     */
+    public String getItemType(int slot) {
+        return hotbar != null ? hotbar[slot] : null;
+    }
+
+    @Override
+    public String toString() {
+        return "PresetMutation[" + uuid + ", " + presetName + ", " + (hotbar == null ? "delete" : Arrays.toString(hotbar)) + "]";
+    }
+}
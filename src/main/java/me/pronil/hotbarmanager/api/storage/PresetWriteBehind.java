@@ -0,0 +1,300 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.metrics.HotbarMetrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind layer for preset saves and deletions
+ *
+ * Submitted mutations are appended to a {@link PresetJournal} and kept in memory,
+ * where a later mutation of the same player and preset replaces the earlier one. A
+ * background thread writes the coalesced mutations to the primary storage in one batch
+ * per flush interval, and compacts the journal once it has grown past a threshold.
+ * After a crash of the server process, {@link #start()} replays the journal so that no
+ * acknowledged mutation is lost. The journal is synced to the storage device before
+ * every batch write, so a power loss loses at most the mutations of one flush interval.
+ *
+ * Usage:
+ * <pre>
+ * PresetWriteBehind writeBehind = new PresetWriteBehind(journal, storage.asPresetBatchWriter(), 2000L, logger);
+ * writeBehind.start();
+ * writeBehind.submit(PresetMutation.save(uuid, "bridge", hotbar));
+ * </pre>
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class PresetWriteBehind implements AutoCloseable {
+
+    /**
+     * Default journal size above which the journal is compacted after a flush
+     */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1L << 20;
+
+    private final PresetJournal journal;
+    private final PresetBatchWriter writer;
+    private final long flushIntervalMillis;
+    private final long compactionThreshold;
+    private final Logger logger;
+    private final Map<PresetKey, PresetMutation> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final AtomicLong flushedMutations = new AtomicLong();
+    private final AtomicLong submittedMutations = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile HotbarMetrics metrics = HotbarMetrics.DISABLED;
+
+    /**
+     * Creates a write-behind layer with the default compaction threshold
+     * @param journal Journal receiving every mutation before it is acknowledged
+     * @param writer Writes batches to the primary storage
+     * @param flushIntervalMillis Time between two batch writes
+     * @param logger Logger used to report failed flushes
+     */
+    public PresetWriteBehind(PresetJournal journal, PresetBatchWriter writer, long flushIntervalMillis, Logger logger) {
+        this(journal, writer, flushIntervalMillis, DEFAULT_COMPACTION_THRESHOLD, logger);
+    }
+
+    /**
+     * Creates a write-behind layer
+     * @param journal Journal receiving every mutation before it is acknowledged
+     * @param writer Writes batches to the primary storage
+     * @param flushIntervalMillis Time between two batch writes
+     * @param compactionThreshold Journal size in bytes above which it is compacted after a flush
+     * @param logger Logger used to report failed flushes
+     */
+    public PresetWriteBehind(PresetJournal journal, PresetBatchWriter writer, long flushIntervalMillis,
+                             long compactionThreshold, Logger logger) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive, got " + flushIntervalMillis);
+        }
+        this.journal = journal;
+        this.writer = writer;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.compactionThreshold = compactionThreshold;
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HotbarManager Preset Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Recovers mutations left in the journal by a crash and starts periodic flushing
+     * @throws IOException if the journal cannot be read
+     */
+    public void start() throws IOException {
+        List<PresetMutation> recovered = journal.replay();
+        for (PresetMutation mutation : recovered) {
+            pending.put(new PresetKey(mutation.getUniqueId(), mutation.getPresetName()), mutation);
+        }
+        if (!recovered.isEmpty()) {
+            logger.info("Recovered " + recovered.size() + " preset changes from the journal");
+        }
+        executor.scheduleWithFixedDelay(this::flushPending, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reports the pending mutation count as the {@code "preset_writes"} queue and records
+     * the latency of every batch write, successful or not
+     * @param metrics The metrics to record into
+     */
+    public void setMetrics(HotbarMetrics metrics) {
+        metrics.registerQueue("preset_writes", pending::size);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Journals a mutation and queues it for the next batch
+     * @param mutation The mutation to persist
+     * @throws IOException if the mutation could not be journaled, in which case it is not queued
+     */
+    public void submit(PresetMutation mutation) throws IOException {
+        PresetKey key = new PresetKey(mutation.getUniqueId(), mutation.getPresetName());
+        // Queues in journal order, and keeps compaction from rewriting the journal between
+        // the append and the queueing
+        synchronized (journal) {
+            journal.append(mutation);
+            pending.put(key, mutation);
+        }
+        submittedMutations.incrementAndGet();
+    }
+
+    /**
+     * Gets the not yet persisted mutation of a preset, so reads can see it before it is flushed
+     * @param uuid The player's UUID
+     * @param presetName Name of the preset
+     * @return The pending mutation, or null if the primary storage is up to date
+     */
+    public PresetMutation getPending(UUID uuid, String presetName) {
+        return pending.get(new PresetKey(uuid, presetName));
+    }
+
+    /**
+     * Gets all not yet persisted mutations of a player
+     * @param uuid The player's UUID
+     * @return The pending mutations of the player
+     */
+    public List<PresetMutation> getPending(UUID uuid) {
+        List<PresetMutation> mutations = new ArrayList<>();
+        for (PresetMutation mutation : pending.values()) {
+            if (mutation.getUniqueId().equals(uuid)) {
+                mutations.add(mutation);
+            }
+        }
+        return mutations;
+    }
+
+    /**
+     * Gets the number of mutations waiting for the next batch
+     * @return Pending mutation count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets the number of mutations submitted since creation
+     * @return Submitted mutation count, including coalesced ones
+     */
+    public long getSubmittedCount() {
+        return submittedMutations.get();
+    }
+
+    /**
+     * Gets the number of mutations written to the primary storage since creation
+     * @return Flushed mutation count
+     */
+    public long getFlushedCount() {
+        return flushedMutations.get();
+    }
+
+    /**
+     * Gets the duration of the last successful batch write
+     * @return Duration in nanoseconds, 0 if nothing was flushed yet
+     */
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+
+    /**
+     * Writes all pending mutations now instead of waiting for the next interval
+     * @return CompletableFuture that completes when the batch has been written
+     */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(this::flushPending, executor);
+    }
+
+    /**
+     * Stops periodic flushing, writes the remaining mutations and closes the journal
+     * @throws IOException if the journal cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushPending();
+        if (pending.isEmpty()) {
+            compact();
+        }
+        journal.close();
+    }
+
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<PresetKey, PresetMutation>> batch = new ArrayList<>(pending.entrySet());
+        List<PresetMutation> mutations = new ArrayList<>(batch.size());
+        for (Map.Entry<PresetKey, PresetMutation> entry : batch) {
+            mutations.add(entry.getValue());
+        }
+
+        long start = System.nanoTime();
+        try {
+            journal.sync();
+            writer.write(mutations);
+        } catch (IOException | RuntimeException e) {
+            metrics.recordStorageFlushFailure(start);
+            logger.log(Level.WARNING, "Failed to write " + mutations.size() + " preset changes, retrying later", e);
+            return;
+        }
+        lastFlushNanos = System.nanoTime() - start;
+        metrics.recordStorageFlush(start);
+        flushedMutations.addAndGet(mutations.size());
+
+        // Only drop mutations that were not replaced while the batch was being written
+        for (Map.Entry<PresetKey, PresetMutation> entry : batch) {
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+
+        try {
+            if (journal.size() > compactionThreshold) {
+                compact();
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to read the preset journal size", e);
+        }
+    }
+
+    private void compact() {
+        try {
+            // Holding the journal's lock keeps appends out until the pending set is rewritten,
+            // so a mutation submitted meanwhile is either in the snapshot or in the new file
+            synchronized (journal) {
+                Collection<PresetMutation> snapshot = new ArrayList<>(pending.values());
+                journal.compact(snapshot);
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to compact the preset journal", e);
+        }
+    }
+
+    private static final class PresetKey {
+
+        private final UUID uuid;
+        private final String presetName;
+
+        private PresetKey(UUID uuid, String presetName) {
+            this.uuid = uuid;
+            this.presetName = presetName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PresetKey)) {
+                return false;
+            }
+            PresetKey other = (PresetKey) o;
+            return uuid.equals(other.uuid) && presetName.equals(other.presetName);
+        }
+
+        @Override
+        public int hashCode() {
+            return uuid.hashCode() * 31 + presetName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-size pool of JDBC connections, opened lazily
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+final class SqlConnectionPool implements AutoCloseable {
+
+    private static final long BORROW_TIMEOUT_SECONDS = 30L;
+
+    private final String url;
+    private final String[] initStatements;
+    private final BlockingQueue<Connection> idle;
+    private final Connection[] all;
+    private int opened;
+    private boolean closed;
+
+    SqlConnectionPool(String url, int size, String... initStatements) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive, got " + size);
+        }
+        this.url = url;
+        this.initStatements = initStatements;
+        this.idle = new ArrayBlockingQueue<>(size);
+        this.all = new Connection[size];
+    }
+
+    Connection borrow() throws SQLException {
+        Connection connection = idle.poll();
+        if (connection != null) {
+            return connection;
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new SQLException("Connection pool is closed");
+            }
+            if (opened < all.length) {
+                connection = open();
+                all[opened++] = connection;
+                return connection;
+            }
+        }
+        try {
+            connection = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
+        }
+        if (connection == null) {
+            throw new SQLException("Timed out waiting for a connection");
+        }
+        return connection;
+    }
+
+    void release(Connection connection) {
+        idle.offer(connection);
+    }
+
+    private Connection open() throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : initStatements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (int i = 0; i < opened; i++) {
+            try {
+                all[i].close();
+            } catch (SQLException ignored) {
+                // nothing left to do with a connection that cannot be closed
+            }
+        }
+        idle.clear();
+    }
+}
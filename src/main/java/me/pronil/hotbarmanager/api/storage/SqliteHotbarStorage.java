@@ -0,0 +1,512 @@
+package me.pronil.hotbarmanager.api.storage;
+
+import me.pronil.hotbarmanager.api.HotbarManagerAPI;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link HotbarStorage} backed by an embedded SQLite database
+ *
+ * Uses the SQLite JDBC driver bundled with Spigot, so no extra dependency is needed.
+ * The database runs in WAL mode: reads are spread over a pool of connections and
+ * threads, while all writes go through a single writer connection and thread, matching
+ * SQLite's one-writer model instead of contending for its lock. Every write is one
+ * transaction of batched prepared statements.
+ *
+ * Presets are content-addressed: each distinct layout is stored once in
+ * {@code hotbar_layouts} under its {@link LayoutHash}, and presets only reference it.
+ * Triggers keep a reference count per layout, which makes "how many presets use this
+ * layout" a primary-key lookup; layouts nobody references any more are removed by
+ * {@link #collectGarbage()}.
+ *
+ * @author pronil
+ * @version 1.6.0
+ * @since 1.6.0
+ */
+public class SqliteHotbarStorage implements HotbarStorage {
+
+    /**
+     * Default number of reader connections and threads
+     */
+    public static final int DEFAULT_READERS = 4;
+
+    private static final String[] PRAGMAS = {
+            "PRAGMA journal_mode=WAL",
+            "PRAGMA synchronous=NORMAL",
+            "PRAGMA busy_timeout=5000"
+    };
+
+    private static final String SLOT_COLUMNS = slotColumns();
+    private static final String SLOT_PARAMETERS = ", ?, ?, ?, ?, ?, ?, ?, ?, ?";
+
+    private static final String CREATE_PLAYERS = "CREATE TABLE IF NOT EXISTS hotbar_players ("
+            + "uuid BLOB PRIMARY KEY" + slotDefinitions() + ")";
+    private static final String CREATE_LAYOUTS = "CREATE TABLE IF NOT EXISTS hotbar_layouts ("
+            + "hash BLOB PRIMARY KEY, refs INTEGER NOT NULL DEFAULT 0" + slotDefinitions() + ")";
+    private static final String CREATE_PRESETS = "CREATE TABLE IF NOT EXISTS hotbar_presets ("
+            + "uuid BLOB NOT NULL, name TEXT NOT NULL, layout BLOB NOT NULL, PRIMARY KEY (uuid, name))";
+    private static final String CREATE_PRESETS_LAYOUT_INDEX = "CREATE INDEX IF NOT EXISTS hotbar_presets_layout "
+            + "ON hotbar_presets (layout)";
+    private static final String CREATE_REF_TRIGGER = "CREATE TRIGGER IF NOT EXISTS hotbar_presets_ref "
+            + "AFTER INSERT ON hotbar_presets BEGIN "
+            + "UPDATE hotbar_layouts SET refs = refs + 1 WHERE hash = NEW.layout; END";
+    private static final String CREATE_UNREF_TRIGGER = "CREATE TRIGGER IF NOT EXISTS hotbar_presets_unref "
+            + "AFTER DELETE ON hotbar_presets BEGIN "
+            + "UPDATE hotbar_layouts SET refs = refs - 1 WHERE hash = OLD.layout; END";
+    private static final String CREATE_REREF_TRIGGER = "CREATE TRIGGER IF NOT EXISTS hotbar_presets_reref "
+            + "AFTER UPDATE OF layout ON hotbar_presets BEGIN "
+            + "UPDATE hotbar_layouts SET refs = refs - 1 WHERE hash = OLD.layout; "
+            + "UPDATE hotbar_layouts SET refs = refs + 1 WHERE hash = NEW.layout; END";
+
+    private static final String SELECT_PLAYER = "SELECT " + SLOT_COLUMNS + " FROM hotbar_players WHERE uuid = ?";
+    private static final String SELECT_PRESETS = "SELECT p.name, " + SLOT_COLUMNS.replace("slot", "l.slot")
+            + " FROM hotbar_presets p JOIN hotbar_layouts l ON l.hash = p.layout WHERE p.uuid = ? ORDER BY p.rowid";
+    private static final String SELECT_LAYOUT_REFS = "SELECT refs FROM hotbar_layouts WHERE hash = ?";
+    private static final String COUNT_LAYOUT_PLAYERS = "SELECT COUNT(DISTINCT uuid) FROM hotbar_presets WHERE layout = ?";
+    private static final String UPSERT_PLAYER = "INSERT OR REPLACE INTO hotbar_players (uuid, " + SLOT_COLUMNS
+            + ") VALUES (?" + SLOT_PARAMETERS + ")";
+    private static final String INSERT_LAYOUT = "INSERT OR IGNORE INTO hotbar_layouts (hash, refs, " + SLOT_COLUMNS
+            + ") VALUES (?, 0" + SLOT_PARAMETERS + ")";
+    // Saves insert new presets and update existing ones in place, since REPLACE would give
+    // the row a new rowid and move the preset to the end of the player's list
+    private static final String INSERT_PRESET = "INSERT OR IGNORE INTO hotbar_presets (uuid, name, layout) VALUES (?, ?, ?)";
+    private static final String UPDATE_PRESET = "UPDATE hotbar_presets SET layout = ? WHERE uuid = ? AND name = ?";
+    private static final String DELETE_PRESET = "DELETE FROM hotbar_presets WHERE uuid = ? AND name = ?";
+    private static final String DELETE_PRESETS = "DELETE FROM hotbar_presets WHERE uuid = ?";
+    private static final String DELETE_PLAYER = "DELETE FROM hotbar_players WHERE uuid = ?";
+    private static final String DELETE_UNREFERENCED_LAYOUTS = "DELETE FROM hotbar_layouts WHERE refs <= 0";
+
+    private final SqlConnectionPool readers;
+    private final SqlConnectionPool writer;
+    private final ExecutorService readExecutor;
+    private final ExecutorService writeExecutor;
+
+    /**
+     * Opens a database with the default number of readers
+     * @param file The database file, created if it does not exist
+     * @throws SQLException if the database cannot be opened or its schema created
+     */
+    public SqliteHotbarStorage(File file) throws SQLException {
+        this(file, DEFAULT_READERS);
+    }
+
+    /**
+     * Opens a database
+     * @param file The database file, created if it does not exist
+     * @param readerCount Number of reader connections and threads
+     * @throws SQLException if the database cannot be opened or its schema created
+     */
+    public SqliteHotbarStorage(File file, int readerCount) throws SQLException {
+        loadDriver();
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new SQLException("Could not create directory " + parent);
+        }
+        String url = "jdbc:sqlite:" + file.getAbsolutePath();
+        this.writer = new SqlConnectionPool(url, 1, PRAGMAS);
+        this.readers = new SqlConnectionPool(url, readerCount, PRAGMAS);
+        createSchema();
+        this.writeExecutor = Executors.newSingleThreadExecutor(threadFactory("HotbarManager SQLite Writer"));
+        this.readExecutor = Executors.newFixedThreadPool(readerCount, threadFactory("HotbarManager SQLite Reader"));
+    }
+
+    private void createSchema() throws SQLException {
+        inTransaction(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(CREATE_PLAYERS);
+                statement.executeUpdate(CREATE_LAYOUTS);
+                statement.executeUpdate(CREATE_PRESETS);
+                statement.executeUpdate(CREATE_PRESETS_LAYOUT_INDEX);
+                statement.executeUpdate(CREATE_REF_TRIGGER);
+                statement.executeUpdate(CREATE_UNREF_TRIGGER);
+                statement.executeUpdate(CREATE_REREF_TRIGGER);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<PlayerHotbarData> load(UUID uuid) {
+        return read(connection -> {
+            byte[] key = toBytes(uuid);
+            String[] hotbar = null;
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_PLAYER)) {
+                statement.setBytes(1, key);
+                try (ResultSet result = statement.executeQuery()) {
+                    if (result.next()) {
+                        hotbar = readSlots(result, 1);
+                    }
+                }
+            }
+            Map<String, String[]> presets = new LinkedHashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_PRESETS)) {
+                statement.setBytes(1, key);
+                try (ResultSet result = statement.executeQuery()) {
+                    while (result.next()) {
+                        presets.put(result.getString(1), readSlots(result, 2));
+                    }
+                }
+            }
+            if (hotbar == null && presets.isEmpty()) {
+                return null;
+            }
+            return PlayerHotbarData.of(uuid, hotbar != null ? hotbar : PlayerHotbarData.empty(uuid).getHotbar(), presets);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> save(PlayerHotbarData data) {
+        return saveAll(Collections.singletonList(data));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAll(Collection<PlayerHotbarData> data) {
+        List<PlayerHotbarData> copy = new ArrayList<>(data);
+        return write(connection -> {
+            try (PreparedStatement players = connection.prepareStatement(UPSERT_PLAYER);
+                 PreparedStatement clear = connection.prepareStatement(DELETE_PRESETS);
+                 PreparedStatement layouts = connection.prepareStatement(INSERT_LAYOUT);
+                 PreparedStatement presets = connection.prepareStatement(INSERT_PRESET)) {
+                Set<LayoutHash> batchedLayouts = new HashSet<>();
+                for (PlayerHotbarData player : copy) {
+                    byte[] key = toBytes(player.getUniqueId());
+                    players.setBytes(1, key);
+                    bindSlots(players, 2, player.getHotbar());
+                    players.addBatch();
+
+                    clear.setBytes(1, key);
+                    clear.addBatch();
+
+                    for (String presetName : player.getPresetNames()) {
+                        presets.setBytes(1, key);
+                        presets.setString(2, presetName);
+                        presets.setBytes(3, addLayout(layouts, batchedLayouts, player.getPreset(presetName)));
+                        presets.addBatch();
+                    }
+                }
+                players.executeBatch();
+                clear.executeBatch();
+                layouts.executeBatch();
+                presets.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> writePresets(Collection<PresetMutation> mutations) {
+        List<PresetMutation> copy = new ArrayList<>(mutations);
+        return write(connection -> {
+            try (PreparedStatement layouts = connection.prepareStatement(INSERT_LAYOUT);
+                 PreparedStatement inserts = connection.prepareStatement(INSERT_PRESET);
+                 PreparedStatement updates = connection.prepareStatement(UPDATE_PRESET);
+                 PreparedStatement deletions = connection.prepareStatement(DELETE_PRESET)) {
+                // Batches run in order of their first statement, so flush one kind before
+                // switching to the other to keep a save and a later deletion in order
+                Set<LayoutHash> batchedLayouts = new HashSet<>();
+                boolean batchedDeletions = false;
+                int batched = 0;
+                for (PresetMutation mutation : copy) {
+                    if (batched > 0 && mutation.isDeletion() != batchedDeletions) {
+                        executePresetBatch(layouts, inserts, updates, deletions, batchedDeletions);
+                        batched = 0;
+                    }
+                    batchedDeletions = mutation.isDeletion();
+                    byte[] key = toBytes(mutation.getUniqueId());
+                    if (batchedDeletions) {
+                        deletions.setBytes(1, key);
+                        deletions.setString(2, mutation.getPresetName());
+                        deletions.addBatch();
+                    } else {
+                        byte[] layout = addLayout(layouts, batchedLayouts, mutation.getHotbar());
+                        inserts.setBytes(1, key);
+                        inserts.setString(2, mutation.getPresetName());
+                        inserts.setBytes(3, layout);
+                        inserts.addBatch();
+                        updates.setBytes(1, layout);
+                        updates.setBytes(2, key);
+                        updates.setString(3, mutation.getPresetName());
+                        updates.addBatch();
+                    }
+                    batched++;
+                }
+                if (batched > 0) {
+                    executePresetBatch(layouts, inserts, updates, deletions, batchedDeletions);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> delete(UUID uuid) {
+        return write(connection -> {
+            byte[] key = toBytes(uuid);
+            int deleted = 0;
+            try (PreparedStatement presets = connection.prepareStatement(DELETE_PRESETS);
+                 PreparedStatement player = connection.prepareStatement(DELETE_PLAYER)) {
+                presets.setBytes(1, key);
+                deleted += presets.executeUpdate();
+                player.setBytes(1, key);
+                deleted += player.executeUpdate();
+            }
+            return deleted > 0;
+        });
+    }
+
+    /**
+     * Counts the presets of all players that use a layout
+     * @param hotbar Array of 9 item type identifiers
+     * @return CompletableFuture with the number of presets referencing the layout
+     */
+    public CompletableFuture<Integer> countPresetsUsing(String[] hotbar) {
+        byte[] hash = LayoutHash.of(hotbar).toBytes();
+        return read(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_LAYOUT_REFS)) {
+                statement.setBytes(1, hash);
+                try (ResultSet result = statement.executeQuery()) {
+                    return result.next() ? Math.max(0, result.getInt(1)) : 0;
+                }
+            }
+        });
+    }
+
+    /**
+     * Counts the players with at least one preset using a layout
+     * @param hotbar Array of 9 item type identifiers
+     * @return CompletableFuture with the number of players
+     */
+    public CompletableFuture<Integer> countPlayersUsing(String[] hotbar) {
+        byte[] hash = LayoutHash.of(hotbar).toBytes();
+        return read(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(COUNT_LAYOUT_PLAYERS)) {
+                statement.setBytes(1, hash);
+                try (ResultSet result = statement.executeQuery()) {
+                    return result.next() ? result.getInt(1) : 0;
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes layouts that are no longer referenced by any preset
+     *
+     * Unreferenced layouts are harmless and are reused when a preset with the same
+     * content is saved again, so this only needs to run occasionally; it also runs
+     * when the storage is closed.
+     * @return CompletableFuture with the number of layouts removed
+     */
+    public CompletableFuture<Integer> collectGarbage() {
+        return write(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(DELETE_UNREFERENCED_LAYOUTS);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        collectGarbage();
+        shutdown(writeExecutor);
+        shutdown(readExecutor);
+        writer.close();
+        readers.close();
+    }
+
+    /**
+     * Work run on a pooled connection
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    protected interface SqlWork<T> {
+
+        /**
+         * Runs the work
+         * @param connection Connection borrowed from the pool
+         * @return The result
+         * @throws SQLException if a statement fails
+         */
+        T run(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Runs read-only work on a reader thread
+     * @param work The work to run
+     * @param <T> Result type
+     * @return CompletableFuture with the result
+     */
+    protected <T> CompletableFuture<T> read(SqlWork<T> work) {
+        return submit(() -> {
+            try {
+                Connection connection = readers.borrow();
+                try {
+                    return work.run(connection);
+                } finally {
+                    readers.release(connection);
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, readExecutor);
+    }
+
+    /**
+     * Runs work in one transaction on the writer thread
+     * @param work The work to run
+     * @param <T> Result type
+     * @return CompletableFuture with the result
+     */
+    protected <T> CompletableFuture<T> write(SqlWork<T> work) {
+        return submit(() -> {
+            try {
+                return inTransaction(work);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }, writeExecutor);
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> task, ExecutorService executor) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            // Thrown once the storage is closed; reported through the future like any other failure
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    private <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        Connection connection = writer.borrow();
+        try {
+            connection.setAutoCommit(false);
+            try {
+                T result = work.run(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } finally {
+            writer.release(connection);
+        }
+    }
+
+    private static byte[] addLayout(PreparedStatement layouts, Set<LayoutHash> batched, String[] hotbar) throws SQLException {
+        LayoutHash hash = LayoutHash.of(hotbar);
+        byte[] bytes = hash.toBytes();
+        if (batched.add(hash)) {
+            layouts.setBytes(1, bytes);
+            bindSlots(layouts, 2, hotbar);
+            layouts.addBatch();
+        }
+        return bytes;
+    }
+
+    private static void executePresetBatch(PreparedStatement layouts, PreparedStatement inserts,
+                                           PreparedStatement updates, PreparedStatement deletions,
+                                           boolean deletion) throws SQLException {
+        if (deletion) {
+            deletions.executeBatch();
+            return;
+        }
+        // Layouts must exist before the triggers can count the references
+        layouts.executeBatch();
+        // New presets are inserted first, in the order they were saved; the updates then
+        // apply every save in order, so the last save of a preset wins
+        inserts.executeBatch();
+        updates.executeBatch();
+    }
+
+    private static void bindSlots(PreparedStatement statement, int firstIndex, String[] hotbar) throws SQLException {
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            statement.setString(firstIndex + slot, hotbar[slot]);
+        }
+    }
+
+    private static String[] readSlots(ResultSet result, int firstIndex) throws SQLException {
+        String[] hotbar = new String[HotbarManagerAPI.HOTBAR_SIZE];
+        for (int slot = 0; slot < hotbar.length; slot++) {
+            hotbar[slot] = result.getString(firstIndex + slot);
+        }
+        return hotbar;
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static String slotColumns() {
+        StringBuilder columns = new StringBuilder();
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            columns.append(slot == 0 ? "" : ", ").append("slot").append(slot);
+        }
+        return columns.toString();
+    }
+
+    private static String slotDefinitions() {
+        StringBuilder columns = new StringBuilder();
+        for (int slot = 0; slot < HotbarManagerAPI.HOTBAR_SIZE; slot++) {
+            columns.append(", slot").append(slot).append(" TEXT NOT NULL");
+        }
+        return columns.toString();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void shutdown(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void loadDriver() {
+        try {
+            // Plugin class loaders do not always trigger JDBC driver discovery
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException ignored) {
+            // DriverManager reports the missing driver when connecting
+        }
+    }
+}